@@ -0,0 +1,92 @@
+package bithazard.util.collection;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+//A list that is still being loaded. Every access blocks until the list is available. It is not RandomAccess, because
+//the type of the loaded list is not known in advance (e.g. a nested merged list), so sequential access goes through the
+//iterators of the loaded list.
+final class AsyncSegment<E> extends ImmutableListView<E> {
+    private final CompletableFuture<? extends List<E>> future;
+
+    AsyncSegment(CompletableFuture<? extends List<E>> future) {
+        this.future = future;
+    }
+
+    CompletableFuture<? extends List<E>> future() {
+        return future;
+    }
+
+    private List<E> list() {
+        return future.join();
+    }
+
+    @Override
+    public int size() {
+        return list().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list().isEmpty();
+    }
+
+    @Override
+    public E get(int index) {
+        return list().get(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return list().contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return list().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return list().lastIndexOf(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return list().iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return list().listIterator(index);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return list().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return list().toArray(a);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list().forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list().spliterator();
+    }
+}
@@ -0,0 +1,132 @@
+package bithazard.util.collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+//Writes the encoded elements of merged lists to a channel, without any header or separators between the lists
+final class ChannelExport {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int ELEMENTS_PER_TASK = 1 << 13;
+
+    private ChannelExport() {
+    }
+
+    //Unlike a direct buffer, the heap buffer does not hold off-heap memory until a GC. Callers that export often can pass
+    //their own (e.g. direct) buffer to reuse it.
+    static <E> long write(List<E>[] lists, ElementEncoder<? super E> encoder, WritableByteChannel channel) throws IOException {
+        return write(lists, encoder, channel, ByteBuffer.allocate(BUFFER_SIZE));
+    }
+
+    //Encodes all lists into the passed buffer, which is written whenever it is full. An element that does not fit into
+    //the empty buffer is encoded into a temporary heap buffer of its size.
+    static <E> long write(List<E>[] lists, ElementEncoder<? super E> encoder, WritableByteChannel channel, ByteBuffer buffer)
+            throws IOException {
+        buffer.clear();
+        long writtenBytes = 0;
+        for (List<E> list : lists) {
+            for (E element : list) {
+                int encodedSize = encoder.encodedSize(element);
+                if (buffer.remaining() < encodedSize) {
+                    writtenBytes += writeFully(buffer.flip(), channel);
+                    buffer.clear();
+                    if (buffer.capacity() < encodedSize) {
+                        ByteBuffer elementBuffer = ByteBuffer.allocate(encodedSize);
+                        encoder.encode(element, elementBuffer);
+                        writtenBytes += writeFully(elementBuffer.flip(), channel);
+                        continue;
+                    }
+                }
+                encoder.encode(element, buffer);
+            }
+        }
+        return writtenBytes + writeFully(buffer.flip(), channel);
+    }
+
+    //Encodes a window of chunks concurrently (each into its own heap buffer) and writes the buffers of the window in order
+    //with one gathering write. A chunk has at most ELEMENTS_PER_TASK elements of one list and the window is limited by
+    //its number of elements, so the memory for encoded elements is bounded by the number of elements (not bytes).
+    static <E> long parallelWrite(List<E>[] lists, ElementEncoder<? super E> encoder, WritableByteChannel channel) throws IOException {
+        int chunksPerWindow = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+        List<List<E>> chunks = new ArrayList<>(chunksPerWindow);
+        long writtenBytes = 0;
+        int listIndex = 0;
+        int fromIndex = 0;
+        while (listIndex < lists.length) {
+            chunks.clear();
+            long elementsInWindow = 0;
+            while (listIndex < lists.length && elementsInWindow < (long) ELEMENTS_PER_TASK * chunksPerWindow) {
+                List<E> list = lists[listIndex];
+                int toIndex = Math.min(list.size(), fromIndex + ELEMENTS_PER_TASK);
+                if (toIndex > fromIndex) {
+                    chunks.add(list.subList(fromIndex, toIndex));
+                    elementsInWindow += toIndex - fromIndex;
+                }
+                if (toIndex == list.size()) {
+                    listIndex++;
+                    fromIndex = 0;
+                } else {
+                    fromIndex = toIndex;
+                }
+            }
+            ByteBuffer[] encodedChunks;
+            try {
+                encodedChunks = chunks.parallelStream()
+                        .map(chunk -> encode(chunk, encoder))
+                        .toArray(ByteBuffer[]::new);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writtenBytes += writeFully(encodedChunks, channel);
+        }
+        return writtenBytes;
+    }
+
+    private static <E> ByteBuffer encode(List<E> chunk, ElementEncoder<? super E> encoder) {
+        long numberOfBytes = 0;
+        for (E element : chunk) {
+            numberOfBytes += encoder.encodedSize(element);
+        }
+        if (numberOfBytes > Integer.MAX_VALUE) {
+            throw new UncheckedIOException(new IOException(chunk.size() + " elements must not be encoded to more than "
+                    + Integer.MAX_VALUE + " bytes"));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) numberOfBytes);
+        for (E element : chunk) {
+            encoder.encode(element, buffer);
+        }
+        return buffer.flip();
+    }
+
+    private static long writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        int numberOfBytes = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return numberOfBytes;
+    }
+
+    private static long writeFully(ByteBuffer[] buffers, WritableByteChannel channel) throws IOException {
+        if (!(channel instanceof GatheringByteChannel)) {
+            long writtenBytes = 0;
+            for (ByteBuffer buffer : buffers) {
+                writtenBytes += writeFully(buffer, channel);
+            }
+            return writtenBytes;
+        }
+        long writtenBytes = 0;
+        int first = 0;
+        while (first < buffers.length) {
+            writtenBytes += ((GatheringByteChannel) channel).write(buffers, first, buffers.length - first);
+            while (first < buffers.length && !buffers[first].hasRemaining()) {
+                first++;
+            }
+        }
+        return writtenBytes;
+    }
+}
@@ -0,0 +1,178 @@
+package bithazard.util.collection;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+final class DistinctListView<E> extends ImmutableListView<E> {
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private final List<E> source;
+    private final int sourceSize;
+    private final int numberOfWords;
+    //A set bit marks an element of the source list that already occurred at a lower index
+    private final long[] duplicates;
+    //Number of distinct elements in all words before the word at the index (the last entry is the overall size)
+    private final int[] distinctBeforeWord;
+    private volatile int scannedWords;
+    private Iterator<E> scanner;
+    private Set<E> seen;
+
+    DistinctListView(List<E> source) {
+        this.source = source;
+        this.sourceSize = source.size();
+        this.numberOfWords = (int) (((long) sourceSize + BITS_PER_WORD - 1) / BITS_PER_WORD);
+        this.duplicates = new long[numberOfWords];
+        this.distinctBeforeWord = new int[numberOfWords + 1];
+        this.scanner = source.iterator();
+        this.seen = new HashSet<>();
+    }
+
+    @Override
+    public int size() {
+        scanWords(numberOfWords);
+        return distinctBeforeWord[numberOfWords];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sourceSize == 0;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int words = scannedWords;
+        if (distinctBeforeWord[words] <= index) {
+            words = scanUntilDistinctCountExceeds(index);
+            if (distinctBeforeWord[words] <= index) {
+                throw new IndexOutOfBoundsException(index);
+            }
+        }
+        int low = 0;
+        int high = words - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (distinctBeforeWord[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        long kept = ~duplicates[low];
+        for (int i = index - distinctBeforeWord[low]; i > 0; i--) {
+            kept &= kept - 1;
+        }
+        return source.get(low * BITS_PER_WORD + Long.numberOfTrailingZeros(kept));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return source.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int sourceIndex = source.indexOf(o);
+        if (sourceIndex == -1) {
+            return -1;
+        }
+        int word = sourceIndex / BITS_PER_WORD;
+        scanWords(word + 1);
+        long keptBelow = ~duplicates[word] & ((1L << sourceIndex) - 1);
+        return distinctBeforeWord[word] + Long.bitCount(keptBelow);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    private void scanWords(int words) {
+        if (scannedWords < words) {
+            synchronized (this) {
+                while (scannedWords < words) {
+                    scanNextWord();
+                }
+            }
+        }
+    }
+
+    private synchronized int scanUntilDistinctCountExceeds(int index) {
+        while (scannedWords < numberOfWords && distinctBeforeWord[scannedWords] <= index) {
+            scanNextWord();
+        }
+        return scannedWords;
+    }
+
+    private void scanNextWord() {
+        int word = scannedWords;
+        int start = word * BITS_PER_WORD;
+        int end = Math.min(start + BITS_PER_WORD, sourceSize);
+        long duplicateBits = 0;
+        int distinctCount = 0;
+        for (int i = start; i < end; i++) {
+            if (seen.add(scanner.next())) {
+                distinctCount++;
+            } else {
+                duplicateBits |= 1L << i;
+            }
+        }
+        duplicates[word] = duplicateBits;
+        distinctBeforeWord[word + 1] = distinctBeforeWord[word] + distinctCount;
+        if (word + 1 == numberOfWords) {
+            scanner = null;
+            seen = null;
+        }
+        scannedWords = word + 1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements Iterator<E> {
+        private final Iterator<E> sourceItr = source.iterator();
+        private int sourceIndex;
+
+        @Override
+        public boolean hasNext() {
+            while (sourceIndex < sourceSize) {
+                int word = sourceIndex / BITS_PER_WORD;
+                if (word >= scannedWords) {
+                    scanWords(word + 1);
+                }
+                if ((duplicates[word] & (1L << sourceIndex)) == 0) {
+                    return true;
+                }
+                sourceItr.next();
+                sourceIndex++;
+            }
+            return false;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            sourceIndex++;
+            return sourceItr.next();
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.IMMUTABLE;
+        if (scannedWords == numberOfWords) {
+            return Spliterators.spliterator(iterator(), distinctBeforeWord[numberOfWords], characteristics);
+        }
+        return Spliterators.spliteratorUnknownSize(iterator(), characteristics);
+    }
+}
@@ -0,0 +1,136 @@
+package bithazard.util.collection;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+//Requires Eclipse Collections, which is an optional dependency of this library
+public final class EclipseCollectionsLists {
+    private EclipseCollectionsLists() {
+    }
+
+    //Eclipse Collections' ImmutableLists are immutable by type and their castToList() does not copy the elements
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <E> MergedImmutableList<E> of(ImmutableList<E>... lists) {
+        List<E>[] castLists = new List[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            castLists[i] = lists[i].castToList();
+        }
+        return MergedImmutableList.ofTrustedLists(castLists);
+    }
+
+    //The primitive lists are not copied. Their elements are boxed when they are accessed. Empty lists are not wrapped,
+    //so they are left out like in of().
+    @SuppressWarnings("unchecked")
+    public static MergedImmutableList<Integer> ofInts(ImmutableIntList... lists) {
+        List<Integer>[] views = new List[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            views[i] = lists[i].isEmpty() ? Collections.emptyList() : new IntListView(lists[i]);
+        }
+        return MergedImmutableList.ofTrustedLists(views);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static MergedImmutableList<Long> ofLongs(ImmutableLongList... lists) {
+        List<Long>[] views = new List[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            views[i] = lists[i].isEmpty() ? Collections.emptyList() : new LongListView(lists[i]);
+        }
+        return MergedImmutableList.ofTrustedLists(views);
+    }
+
+    private static final class IntListView extends ImmutableListView<Integer> implements RandomAccess {
+        private final ImmutableIntList list;
+
+        private IntListView(ImmutableIntList list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && list.contains((Integer) o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Integer ? list.indexOf((Integer) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Integer ? list.lastIndexOf((Integer) o) : -1;
+        }
+
+        @Override
+        public void forEach(Consumer<? super Integer> action) {
+            Objects.requireNonNull(action);
+            list.forEach(action::accept);
+        }
+    }
+
+    private static final class LongListView extends ImmutableListView<Long> implements RandomAccess {
+        private final ImmutableLongList list;
+
+        private LongListView(ImmutableLongList list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        @Override
+        public Long get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long && list.contains((Long) o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Long ? list.indexOf((Long) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Long ? list.lastIndexOf((Long) o) : -1;
+        }
+
+        @Override
+        public void forEach(Consumer<? super Long> action) {
+            Objects.requireNonNull(action);
+            list.forEach(action::accept);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package bithazard.util.collection;
+
+import java.nio.ByteBuffer;
+
+public interface ElementCodec<E> extends ElementEncoder<E> {
+    E decode(ByteBuffer source);
+
+    static ElementCodec<String> strings() {
+        return ElementCodecs.STRINGS;
+    }
+
+    static ElementCodec<Integer> integers() {
+        return ElementCodecs.INTEGERS;
+    }
+
+    static ElementCodec<Long> longs() {
+        return ElementCodecs.LONGS;
+    }
+}
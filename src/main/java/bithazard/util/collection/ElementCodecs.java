@@ -0,0 +1,95 @@
+package bithazard.util.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class ElementCodecs {
+    static final ElementCodec<String> STRINGS = new StringCodec();
+    static final ElementCodec<Integer> INTEGERS = new IntegerCodec();
+    static final ElementCodec<Long> LONGS = new LongCodec();
+
+    private ElementCodecs() {
+    }
+
+    //UTF-8 bytes prefixed with their number
+    private static final class StringCodec implements ElementCodec<String> {
+        @Override
+        public int encodedSize(String element) {
+            return Integer.BYTES + utf8Length(element);
+        }
+
+        @Override
+        public void encode(String element, ByteBuffer target) {
+            byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+            target.putInt(bytes.length).put(bytes);
+        }
+
+        @Override
+        public String decode(ByteBuffer source) {
+            int length = source.getInt();
+            if (source.hasArray()) {
+                int position = source.position();
+                source.position(position + length);
+                return new String(source.array(), source.arrayOffset() + position, length, StandardCharsets.UTF_8);
+            }
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        //Same length as String.getBytes(UTF_8) produces, including the replacement of unpaired surrogates by '?'
+        private static int utf8Length(String string) {
+            int length = 0;
+            for (int i = 0, stringLength = string.length(); i < stringLength; i++) {
+                char c = string.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < stringLength && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    length++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+    }
+
+    private static final class IntegerCodec implements ElementCodec<Integer> {
+        @Override
+        public int encodedSize(Integer element) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer target) {
+            target.putInt(element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer source) {
+            return source.getInt();
+        }
+    }
+
+    private static final class LongCodec implements ElementCodec<Long> {
+        @Override
+        public int encodedSize(Long element) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer target) {
+            target.putLong(element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source) {
+            return source.getLong();
+        }
+    }
+}
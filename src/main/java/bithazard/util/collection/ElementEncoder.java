@@ -0,0 +1,9 @@
+package bithazard.util.collection;
+
+import java.nio.ByteBuffer;
+
+public interface ElementEncoder<E> {
+    int encodedSize(E element);
+
+    void encode(E element, ByteBuffer target);
+}
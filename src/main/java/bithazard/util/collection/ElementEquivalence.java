@@ -0,0 +1,24 @@
+package bithazard.util.collection;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+//Decides whether an element of a merged list matches the object that contains, indexOf and lastIndexOf search for
+public interface ElementEquivalence {
+    boolean equivalent(Object searched, Object element);
+
+    //Only the same instance matches, e.g. for interned or otherwise canonicalized elements
+    static ElementEquivalence identity() {
+        return ElementEquivalences.IDENTITY;
+    }
+
+    //Compares the hash codes before equals, which is faster for elements that cache their hash code (like String)
+    static ElementEquivalence hashThenEquals() {
+        return ElementEquivalences.HASH_THEN_EQUALS;
+    }
+
+    static ElementEquivalence of(BiPredicate<Object, Object> predicate) {
+        Objects.requireNonNull(predicate);
+        return predicate::test;
+    }
+}
@@ -0,0 +1,10 @@
+package bithazard.util.collection;
+
+final class ElementEquivalences {
+    static final ElementEquivalence IDENTITY = (searched, element) -> searched == element;
+    static final ElementEquivalence HASH_THEN_EQUALS = (searched, element) -> searched == element
+            || searched != null && element != null && searched.hashCode() == element.hashCode() && searched.equals(element);
+
+    private ElementEquivalences() {
+    }
+}
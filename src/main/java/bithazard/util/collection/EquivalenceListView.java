@@ -0,0 +1,116 @@
+package bithazard.util.collection;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+//Searches the source list with an ElementEquivalence instead of equals. Random access lists are searched by index,
+//without the iterator that AbstractList.indexOf creates.
+final class EquivalenceListView<E> extends ImmutableListView<E> implements RandomAccess {
+    private final List<E> source;
+    private final ElementEquivalence equivalence;
+
+    private EquivalenceListView(List<E> source, ElementEquivalence equivalence) {
+        this.source = source;
+        this.equivalence = equivalence;
+    }
+
+    static <E> List<E> of(List<E> source, ElementEquivalence equivalence) {
+        return SequentialListView.of(new EquivalenceListView<>(source, equivalence), source instanceof RandomAccess);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (source instanceof RandomAccess) {
+            for (int i = 0, size = source.size(); i < size; i++) {
+                if (equivalence.equivalent(o, source.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        ListIterator<E> iterator = source.listIterator();
+        while (iterator.hasNext()) {
+            if (equivalence.equivalent(o, iterator.next())) {
+                return iterator.previousIndex();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (source instanceof RandomAccess) {
+            for (int i = source.size() - 1; i >= 0; i--) {
+                if (equivalence.equivalent(o, source.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        ListIterator<E> iterator = source.listIterator(source.size());
+        while (iterator.hasPrevious()) {
+            if (equivalence.equivalent(o, iterator.previous())) {
+                return iterator.nextIndex();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return of(source.subList(fromIndex, toIndex), equivalence);
+    }
+
+    @Override
+    boolean hasOwnSearch() {
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return source.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return source.toArray(a);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return source.iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return source.listIterator(index);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        source.forEach(action);
+    }
+}
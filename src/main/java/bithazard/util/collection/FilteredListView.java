@@ -0,0 +1,162 @@
+package bithazard.util.collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+final class FilteredListView<E> extends ImmutableListView<E> implements RandomAccess {
+    private final List<E> source;
+    private final Predicate<? super E> predicate;
+    //Indexes of the source list elements that match the predicate
+    private volatile int[] matchingIndexes;
+
+    private FilteredListView(List<E> source, Predicate<? super E> predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    static <E> List<E> of(List<E> source, Predicate<? super E> predicate) {
+        return SequentialListView.of(new FilteredListView<>(source, predicate), source instanceof RandomAccess);
+    }
+
+    @SuppressWarnings("NestedAssignment")
+    private int[] matchingIndexes() {
+        int[] tmp = matchingIndexes;
+        if (tmp == null) {
+            matchingIndexes = tmp = calculateMatchingIndexes();
+        }
+        return tmp;
+    }
+
+    private int[] calculateMatchingIndexes() {
+        int sourceSize = source.size();
+        int[] indexes = new int[sourceSize];
+        int numberOfMatches = 0;
+        int index = 0;
+        for (E element : source) {
+            if (predicate.test(element)) {
+                indexes[numberOfMatches++] = index;
+            }
+            index++;
+        }
+        return numberOfMatches == sourceSize ? indexes : Arrays.copyOf(indexes, numberOfMatches);
+    }
+
+    @Override
+    public int size() {
+        return matchingIndexes().length;
+    }
+
+    @Override
+    public E get(int index) {
+        int[] indexes = matchingIndexes();
+        Objects.checkIndex(index, indexes.length);
+        return source.get(indexes[index]);
+    }
+
+    //A sequential source (e.g. a nested merged list) is iterated instead of accessed by index
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (source instanceof RandomAccess) {
+            return super.listIterator(index);
+        }
+        int[] indexes = matchingIndexes();
+        Objects.checkIndex(index, indexes.length + 1);
+        return new FilteredListIterator<>(source, indexes, index);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int[] indexes = matchingIndexes;
+        if (indexes != null && source instanceof RandomAccess) {
+            for (int index : indexes) {
+                action.accept(source.get(index));
+            }
+            return;
+        }
+        for (E element : source) {
+            if (predicate.test(element)) {
+                action.accept(element);
+            }
+        }
+    }
+
+    //Moves an iterator of the source list to the matching indexes, skipping the elements in between
+    private static final class FilteredListIterator<E> implements ListIterator<E> {
+        private final ListIterator<E> sourceIterator;
+        private final int[] indexes;
+        private int cursor;
+
+        FilteredListIterator(List<E> source, int[] indexes, int cursor) {
+            this.sourceIterator = source.listIterator(cursor < indexes.length ? indexes[cursor] : source.size());
+            this.indexes = indexes;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < indexes.length;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            moveTo(indexes[cursor++]);
+            return sourceIterator.next();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public E previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            moveTo(indexes[--cursor] + 1);
+            return sourceIterator.previous();
+        }
+
+        private void moveTo(int sourceIndex) {
+            while (sourceIterator.nextIndex() < sourceIndex) {
+                sourceIterator.next();
+            }
+            while (sourceIterator.nextIndex() > sourceIndex) {
+                sourceIterator.previous();
+            }
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void add(E e) {throw new UnsupportedOperationException();}
+        @Override
+        public void remove() {throw new UnsupportedOperationException();}
+        @Override
+        public void set(E e) {throw new UnsupportedOperationException();}
+    }
+}
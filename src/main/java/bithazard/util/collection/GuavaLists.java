@@ -0,0 +1,62 @@
+package bithazard.util.collection;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+//Requires Guava, which is an optional dependency of this library
+public final class GuavaLists {
+    private GuavaLists() {
+    }
+
+    //Guava's ImmutableLists are immutable by type, so no further check is needed
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <E> MergedImmutableList<E> of(ImmutableList<E>... lists) {
+        List<E>[] copy = new List[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            copy[i] = lists[i];
+        }
+        return MergedImmutableList.ofTrustedLists(copy);
+    }
+
+    //Merges the asList() views of the passed collections (e.g. ImmutableSets), which do not copy the elements
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <E> MergedImmutableList<E> ofCollections(ImmutableCollection<E>... collections) {
+        List<E>[] lists = new List[collections.length];
+        for (int i = 0; i < collections.length; i++) {
+            lists[i] = collections[i].asList();
+        }
+        return MergedImmutableList.ofTrustedLists(lists);
+    }
+
+    //If only one of the merged lists contains elements and it is an ImmutableList, it is returned as is. Otherwise the
+    //elements are copied once: ImmutableList.Builder copies ImmutableCollections directly into its array.
+    public static <E> ImmutableList<E> toImmutableList(List<E> list) {
+        if (list instanceof ImmutableList) {
+            return (ImmutableList<E>) list;
+        }
+        if (!(list instanceof MergedImmutableList)) {
+            return ImmutableList.copyOf(list);
+        }
+        List<E>[] lists = ((MergedImmutableList<E>) list).lists();
+        List<E> nonEmptyList = null;
+        int numberOfNonEmptyLists = 0;
+        for (List<E> currentList : lists) {
+            if (!currentList.isEmpty()) {
+                nonEmptyList = currentList;
+                numberOfNonEmptyLists++;
+            }
+        }
+        if (numberOfNonEmptyLists == 1 && nonEmptyList instanceof ImmutableList) {
+            return (ImmutableList<E>) nonEmptyList;
+        }
+        ImmutableList.Builder<E> builder = ImmutableList.builderWithExpectedSize(list.size());
+        for (List<E> currentList : lists) {
+            builder.addAll(currentList);
+        }
+        return builder.build();
+    }
+}
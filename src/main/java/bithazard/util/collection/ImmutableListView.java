@@ -0,0 +1,43 @@
+package bithazard.util.collection;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+abstract class ImmutableListView<E> extends AbstractList<E> {
+    @Override
+    public boolean add(E e)                                     {throw new UnsupportedOperationException();}
+    @Override
+    public void add(int index, E element)                       {throw new UnsupportedOperationException();}
+    @Override
+    public boolean addAll(Collection<? extends E> c)            {throw new UnsupportedOperationException();}
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {throw new UnsupportedOperationException();}
+    @Override
+    public E remove(int index)                                  {throw new UnsupportedOperationException();}
+    @Override
+    public boolean remove(Object o)                             {throw new UnsupportedOperationException();}
+    @Override
+    public boolean removeAll(Collection<?> c)                   {throw new UnsupportedOperationException();}
+    @Override
+    public boolean retainAll(Collection<?> c)                   {throw new UnsupportedOperationException();}
+    @Override
+    public void clear()                                         {throw new UnsupportedOperationException();}
+    @Override
+    protected void removeRange(int fromIndex, int toIndex)      {throw new UnsupportedOperationException();}
+    @Override
+    public E set(int index, E element)                          {throw new UnsupportedOperationException();}
+    @Override
+    public void replaceAll(UnaryOperator<E> operator)           {throw new UnsupportedOperationException();}
+    @Override
+    public void sort(Comparator<? super E> c)                   {throw new UnsupportedOperationException();}
+    @Override
+    public boolean removeIf(Predicate<? super E> filter)        {throw new UnsupportedOperationException();}
+
+    //Views that search in another way than SegmentSlice (which compares with equals) have to create their own subLists
+    boolean hasOwnSearch() {
+        return false;
+    }
+}
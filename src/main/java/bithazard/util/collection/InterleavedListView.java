@@ -0,0 +1,263 @@
+package bithazard.util.collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+//Contains the first element of every list, then the second element of every list and so on. Lists that have no more
+//elements are skipped. The rounds in which the same lists still have elements form a phase. Within a phase an index is
+//mapped arithmetically to a list and a position in it. If all lists have the same size, there is only one phase. If one
+//of the lists is not RandomAccess (e.g. a nested merged list), the view iterates the lists with their iterators.
+final class InterleavedListView<E> extends ImmutableListView<E> implements RandomAccess {
+    private final List<E>[] lists;
+    private final boolean randomAccess;
+    //Phase p covers the rounds firstRoundOfPhase[p] to firstRoundOfPhase[p + 1] - 1 and the indexes firstIndexOfPhase[p]
+    //to firstIndexOfPhase[p + 1] - 1. listsOfPhase[p] are the indexes of the lists that have elements in these rounds.
+    private final int[] firstRoundOfPhase;
+    private final int[] firstIndexOfPhase;
+    private final int[][] listsOfPhase;
+
+    private InterleavedListView(List<E>[] lists, boolean randomAccess) {
+        this.lists = lists;
+        this.randomAccess = randomAccess;
+        int[] sizes = new int[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            sizes[i] = lists[i].size();
+        }
+        int[] distinctSizes = Arrays.stream(sizes).filter(size -> size > 0).sorted().distinct().toArray();
+        firstRoundOfPhase = new int[distinctSizes.length + 1];
+        firstIndexOfPhase = new int[distinctSizes.length + 1];
+        listsOfPhase = new int[distinctSizes.length][];
+        for (int phase = 0; phase < distinctSizes.length; phase++) {
+            int firstRound = firstRoundOfPhase[phase];
+            int[] listsWithElements = new int[lists.length];
+            int numberOfLists = 0;
+            for (int i = 0; i < lists.length; i++) {
+                if (sizes[i] > firstRound) {
+                    listsWithElements[numberOfLists++] = i;
+                }
+            }
+            listsOfPhase[phase] = Arrays.copyOf(listsWithElements, numberOfLists);
+            firstRoundOfPhase[phase + 1] = distinctSizes[phase];
+            firstIndexOfPhase[phase + 1] = firstIndexOfPhase[phase] + (distinctSizes[phase] - firstRound) * numberOfLists;
+        }
+    }
+
+    static <E> List<E> of(List<E>[] lists) {
+        boolean randomAccess = true;
+        for (List<E> list : lists) {
+            randomAccess &= list instanceof RandomAccess;
+        }
+        return SequentialListView.of(new InterleavedListView<>(lists, randomAccess), randomAccess);
+    }
+
+    private int phaseOf(int index) {
+        if (listsOfPhase.length == 1) {
+            return 0;
+        }
+        int phase = Arrays.binarySearch(firstIndexOfPhase, 0, listsOfPhase.length, index);
+        return phase >= 0 ? phase : -phase - 2;
+    }
+
+    @Override
+    public int size() {
+        return firstIndexOfPhase[listsOfPhase.length];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        int phase = phaseOf(index);
+        int[] listIndexes = listsOfPhase[phase];
+        int offset = index - firstIndexOfPhase[phase];
+        return lists[listIndexes[offset % listIndexes.length]].get(firstRoundOfPhase[phase] + offset / listIndexes.length);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (List<E> list : lists) {
+            if (list.contains(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (randomAccess) {
+            return super.indexOf(o);
+        }
+        int index = 0;
+        for (Iterator<E> it = iterator(); it.hasNext(); index++) {
+            if (Objects.equals(o, it.next())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (randomAccess) {
+            return super.lastIndexOf(o);
+        }
+        int lastIndex = -1;
+        int index = 0;
+        for (Iterator<E> it = iterator(); it.hasNext(); index++) {
+            if (Objects.equals(o, it.next())) {
+                lastIndex = index;
+            }
+        }
+        return lastIndex;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return randomAccess ? Spliterators.iterator(spliterator()) : new InterleavedIterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (randomAccess) {
+            spliterator().forEachRemaining(action);
+            return;
+        }
+        Objects.requireNonNull(action);
+        for (Iterator<E> it = iterator(); it.hasNext(); ) {
+            action.accept(it.next());
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        if (!randomAccess) {
+            return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+        return new InterleavedSpliterator(0, size());
+    }
+
+    //Takes the elements from the iterators of the lists in the same order as the spliterator takes them by index
+    private final class InterleavedIterator implements Iterator<E> {
+        private final Iterator<E>[] iterators;
+        private final int size = size();
+        private int index;
+        private int phase;
+        private int round;
+        private int positionInRound;
+
+        @SuppressWarnings("unchecked")
+        InterleavedIterator() {
+            iterators = new Iterator[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                iterators[i] = lists[i].iterator();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int[] listIndexes = listsOfPhase[phase];
+            E element = iterators[listIndexes[positionInRound]].next();
+            index++;
+            if (++positionInRound == listIndexes.length) {
+                positionInRound = 0;
+                if (++round == firstRoundOfPhase[phase + 1]) {
+                    phase++;
+                }
+            }
+            return element;
+        }
+    }
+
+    //Moves from list to list and round to round without mapping every index. Only a split maps the index where the
+    //remaining part starts.
+    private final class InterleavedSpliterator implements Spliterator<E> {
+        private int index;
+        private final int fence;
+        private int phase;
+        private int round;
+        private int positionInRound;
+
+        InterleavedSpliterator(int index, int fence) {
+            this.fence = fence;
+            moveTo(index);
+        }
+
+        private void moveTo(int index) {
+            this.index = index;
+            if (index < fence) {
+                phase = phaseOf(index);
+                int numberOfLists = listsOfPhase[phase].length;
+                int offset = index - firstIndexOfPhase[phase];
+                round = firstRoundOfPhase[phase] + offset / numberOfLists;
+                positionInRound = offset % numberOfLists;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            int[] listIndexes = listsOfPhase[phase];
+            action.accept(lists[listIndexes[positionInRound]].get(round));
+            index++;
+            if (++positionInRound == listIndexes.length) {
+                positionInRound = 0;
+                if (++round == firstRoundOfPhase[phase + 1]) {
+                    phase++;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            while (index < fence) {
+                tryAdvance(action);
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            InterleavedSpliterator prefix = new InterleavedSpliterator(index, middle);
+            moveTo(middle);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package bithazard.util.collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+final class LazySegment<E> extends ImmutableListView<E> implements RandomAccess {
+    private final Loader loader;
+    private final int segmentIndex;
+    private final int size;
+    private volatile Object[] elements;
+
+    interface Loader {
+        //Has to call setElements(Object[]) on the segment with the passed index (and may do so for other segments too)
+        void load(int segmentIndex) throws IOException;
+    }
+
+    LazySegment(Loader loader, int segmentIndex, int size) {
+        this.loader = loader;
+        this.segmentIndex = segmentIndex;
+        this.size = size;
+    }
+
+    void setElements(Object[] elements) {
+        this.elements = elements;
+    }
+
+    boolean isLoaded() {
+        return elements != null;
+    }
+
+    private Object[] elements() {
+        Object[] tmp = elements;
+        if (tmp == null) {
+            try {
+                loader.load(segmentIndex);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not load segment " + segmentIndex, e);
+            }
+            tmp = elements;
+        }
+        return tmp;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements()[index];
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements().clone();
+    }
+}
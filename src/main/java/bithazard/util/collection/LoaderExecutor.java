@@ -0,0 +1,25 @@
+package bithazard.util.collection;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//Executes the loaders of asyncOf(Callable...). Loading usually blocks on I/O, so every loader gets its own (daemon)
+//thread instead of occupying a thread of the common pool. On Java 21 and newer the version in src/main/java21 is used,
+//which starts a virtual thread for every loader.
+final class LoaderExecutor {
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "merged-immutable-list-loader-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private LoaderExecutor() {
+    }
+
+    static Executor get() {
+        return EXECUTOR;
+    }
+}
@@ -0,0 +1,110 @@
+package bithazard.util.collection;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+//Iterates with the iterator of the source list, so a sequential source (e.g. a nested merged list) is not accessed by
+//index
+final class MappedListView<S, E> extends ImmutableListView<E> implements RandomAccess {
+    private final List<S> source;
+    private final Function<? super S, ? extends E> mapper;
+
+    private MappedListView(List<S> source, Function<? super S, ? extends E> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    static <S, E> List<E> of(List<S> source, Function<? super S, ? extends E> mapper) {
+        return SequentialListView.of(new MappedListView<>(source, mapper), source instanceof RandomAccess);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    @Override
+    public E get(int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return of(source.subList(fromIndex, toIndex), mapper);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return new MappedListIterator<>(source.listIterator(index), mapper);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (S element : source) {
+            action.accept(mapper.apply(element));
+        }
+    }
+
+    private static final class MappedListIterator<S, E> implements ListIterator<E> {
+        private final ListIterator<S> sourceIterator;
+        private final Function<? super S, ? extends E> mapper;
+
+        MappedListIterator(ListIterator<S> sourceIterator, Function<? super S, ? extends E> mapper) {
+            this.sourceIterator = sourceIterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sourceIterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            return mapper.apply(sourceIterator.next());
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return sourceIterator.hasPrevious();
+        }
+
+        @Override
+        public E previous() {
+            return mapper.apply(sourceIterator.previous());
+        }
+
+        @Override
+        public int nextIndex() {
+            return sourceIterator.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return sourceIterator.previousIndex();
+        }
+
+        @Override
+        public void add(E e) {throw new UnsupportedOperationException();}
+        @Override
+        public void remove() {throw new UnsupportedOperationException();}
+        @Override
+        public void set(E e) {throw new UnsupportedOperationException();}
+    }
+}
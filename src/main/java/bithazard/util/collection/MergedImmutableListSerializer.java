@@ -0,0 +1,226 @@
+package bithazard.util.collection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+//Format (big endian): magic number, number of lists, number of elements of each list, then for each list the number of
+//bytes of its encoded elements followed by the elements encoded by the ElementCodec
+public final class MergedImmutableListSerializer {
+    private static final int MAGIC_NUMBER = 0x4D494C01;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private MergedImmutableListSerializer() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> void write(List<E> list, ElementCodec<? super E> codec, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(channel);
+        List<E>[] lists = list instanceof MergedImmutableList ? ((MergedImmutableList<E>) list).lists() : new List[] {list};
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * (2 + lists.length));
+        header.putInt(MAGIC_NUMBER).putInt(lists.length);
+        for (List<E> currentList : lists) {
+            header.putInt(currentList.size());
+        }
+        writeFully(header.flip(), channel);
+        ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        for (List<E> currentList : lists) {
+            long numberOfBytes = 0;
+            for (E element : currentList) {
+                numberOfBytes += codec.encodedSize(element);
+            }
+            if (numberOfBytes > Integer.MAX_VALUE) {
+                throw new IOException("A single list must not be encoded to more than " + Integer.MAX_VALUE + " bytes");
+            }
+            buffer.putInt((int) numberOfBytes);
+            for (E element : currentList) {
+                int encodedSize = codec.encodedSize(element);
+                if (buffer.remaining() < encodedSize) {
+                    writeFully(buffer.flip(), channel);
+                    buffer.clear();
+                    if (buffer.capacity() < encodedSize) {
+                        buffer = ByteBuffer.allocate(encodedSize);
+                    }
+                }
+                codec.encode(element, buffer);
+            }
+            //Keep room for the number of bytes of the next list
+            if (buffer.remaining() < Integer.BYTES) {
+                writeFully(buffer.flip(), channel);
+                buffer.clear();
+            }
+        }
+        writeFully(buffer.flip(), channel);
+    }
+
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    //Only the header is read immediately. The elements of each list are read and decoded when the list is accessed for
+    //the first time (together with all lists before it), so the channel must stay open until all lists were accessed.
+    public static <E> MergedImmutableList<E> read(ReadableByteChannel channel, ElementCodec<? extends E> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        int numberOfLists = readNumberOfLists(readFully(channel, Integer.BYTES * 2));
+        int[] listSizes = readListSizes(readFully(channel, Integer.BYTES * numberOfLists), numberOfLists);
+        ChannelLoader<E> loader = new ChannelLoader<>(channel, codec);
+        return MergedImmutableList.ofTrustedLists(loader.segments(listSizes));
+    }
+
+    //The file is memory-mapped. Each list is decoded from the mapping independently when it is accessed for the first time.
+    public static <E> MergedImmutableList<E> read(Path file, ElementCodec<? extends E> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        MappedByteBuffer mappedFile;
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mappedFile = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        }
+        ByteBuffer source = mappedFile.duplicate();
+        int[] listSizes = readListSizes(source, readNumberOfLists(source));
+        ByteBuffer[] encodedLists = new ByteBuffer[listSizes.length];
+        for (int i = 0; i < listSizes.length; i++) {
+            int numberOfBytes = getInt(source);
+            if (numberOfBytes < 0 || numberOfBytes > source.remaining()) {
+                throw new StreamCorruptedException("Invalid number of bytes for list " + i + ": " + numberOfBytes);
+            }
+            encodedLists[i] = source.slice().limit(numberOfBytes);
+            source.position(source.position() + numberOfBytes);
+        }
+        MappedLoader<E> loader = new MappedLoader<>(encodedLists, codec);
+        return MergedImmutableList.ofTrustedLists(loader.segments(listSizes));
+    }
+
+    private static int readNumberOfLists(ByteBuffer source) throws IOException {
+        int magicNumber = getInt(source);
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new StreamCorruptedException("Not a serialized MergedImmutableList");
+        }
+        int numberOfLists = getInt(source);
+        if (numberOfLists < 0 || numberOfLists > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new StreamCorruptedException("Invalid number of lists: " + numberOfLists);
+        }
+        return numberOfLists;
+    }
+
+    private static int[] readListSizes(ByteBuffer source, int numberOfLists) throws IOException {
+        int[] listSizes = new int[numberOfLists];
+        for (int i = 0; i < numberOfLists; i++) {
+            listSizes[i] = getInt(source);
+            if (listSizes[i] < 0) {
+                throw new StreamCorruptedException("Invalid size of list " + i + ": " + listSizes[i]);
+            }
+        }
+        return listSizes;
+    }
+
+    private static int getInt(ByteBuffer source) throws IOException {
+        if (source.remaining() < Integer.BYTES) {
+            throw new EOFException();
+        }
+        return source.getInt();
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, int numberOfBytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(numberOfBytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static Object[] decode(ByteBuffer encodedList, int size, ElementCodec<?> codec, int listIndex) throws IOException {
+        Object[] elements = new Object[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                elements[i] = codec.decode(encodedList);
+            }
+        } catch (RuntimeException e) {
+            throw new StreamCorruptedException("Could not decode list " + listIndex + ": " + e);
+        }
+        if (encodedList.hasRemaining()) {
+            throw new StreamCorruptedException("Unexpected bytes after the elements of list " + listIndex);
+        }
+        return elements;
+    }
+
+    private abstract static class Loader<E> implements LazySegment.Loader {
+        final ElementCodec<? extends E> codec;
+        LazySegment<E>[] segments;
+
+        Loader(ElementCodec<? extends E> codec) {
+            this.codec = codec;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<E>[] segments(int[] listSizes) {
+            segments = new LazySegment[listSizes.length];
+            for (int i = 0; i < listSizes.length; i++) {
+                segments[i] = new LazySegment<>(this, i, listSizes[i]);
+            }
+            return segments;
+        }
+    }
+
+    private static final class ChannelLoader<E> extends Loader<E> {
+        private final ReadableByteChannel channel;
+        private int nextSegmentIndex;
+        //After a failure the position of the channel is unknown, so every later segment fails with the same exception
+        private Exception failure;
+
+        ChannelLoader(ReadableByteChannel channel, ElementCodec<? extends E> codec) {
+            super(codec);
+            this.channel = channel;
+        }
+
+        @Override
+        public synchronized void load(int segmentIndex) throws IOException {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            try {
+                for (; nextSegmentIndex <= segmentIndex; nextSegmentIndex++) {
+                    int numberOfBytes = readFully(channel, Integer.BYTES).getInt();
+                    if (numberOfBytes < 0) {
+                        throw new StreamCorruptedException("Invalid number of bytes for list " + nextSegmentIndex + ": " + numberOfBytes);
+                    }
+                    LazySegment<E> segment = segments[nextSegmentIndex];
+                    segment.setElements(decode(readFully(channel, numberOfBytes), segment.size(), codec, nextSegmentIndex));
+                }
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+                throw e;
+            }
+        }
+    }
+
+    private static final class MappedLoader<E> extends Loader<E> {
+        private final ByteBuffer[] encodedLists;
+
+        MappedLoader(ByteBuffer[] encodedLists, ElementCodec<? extends E> codec) {
+            super(codec);
+            this.encodedLists = encodedLists;
+        }
+
+        @Override
+        public void load(int segmentIndex) throws IOException {
+            LazySegment<E> segment = segments[segmentIndex];
+            segment.setElements(decode(encodedLists[segmentIndex].duplicate(), segment.size(), codec, segmentIndex));
+        }
+    }
+}
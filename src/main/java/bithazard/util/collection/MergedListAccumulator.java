@@ -0,0 +1,64 @@
+package bithazard.util.collection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+//Collects immutable lists from many threads and provides a MergedImmutableList of all lists that were appended so far.
+//Appending never blocks. The merged list is only rebuilt when a snapshot is requested after lists were appended, so a
+//burst of appends results in one rebuild.
+public final class MergedListAccumulator<E> {
+    private static final int INITIAL_CAPACITY = 16;
+    private final Queue<List<E>> appendedLists = new ConcurrentLinkedQueue<>();
+    private final Object rebuildLock = new Object();
+    //Only accessed while holding rebuildLock
+    private List<E>[] lists;
+    private int numberOfLists;
+    private volatile MergedImmutableList<E> snapshot = MergedImmutableList.of();
+
+    @SuppressWarnings("unchecked")
+    public MergedListAccumulator() {
+        lists = new List[INITIAL_CAPACITY];
+    }
+
+    public void append(List<E> list) {
+        if (!MergedImmutableList.isKnownToBeImmutable(list)) {
+            throw new IllegalArgumentException("The passed list is of a type that is not known to be immutable: "
+                    + list.getClass().getName());
+        }
+        if (!MergedImmutableList.isKnownToBeEmpty(list)) {
+            appendedLists.add(list);
+        }
+    }
+
+    //Contains at least all lists whose append call completed before this call. Without new lists the previous snapshot
+    //is returned, which only needs a volatile read.
+    public MergedImmutableList<E> snapshot() {
+        if (appendedLists.isEmpty()) {
+            return snapshot;
+        }
+        synchronized (rebuildLock) {
+            int numberOfAppendedLists = 0;
+            for (List<E> list : appendedLists) {
+                if (numberOfLists == lists.length) {
+                    lists = Arrays.copyOf(lists, lists.length * 2);
+                }
+                lists[numberOfLists++] = list;
+                numberOfAppendedLists++;
+            }
+            if (numberOfAppendedLists == 0) {
+                //Another thread rebuilt the snapshot in the meantime
+                return snapshot;
+            }
+            MergedImmutableList<E> newSnapshot = MergedImmutableList.ofTrustedLists(Arrays.copyOf(lists, numberOfLists));
+            snapshot = newSnapshot;
+            //The lists are removed only after the snapshot that contains them is published, so a thread that finds no
+            //appended lists can return the published snapshot
+            for (int i = 0; i < numberOfAppendedLists; i++) {
+                appendedLists.poll();
+            }
+            return newSnapshot;
+        }
+    }
+}
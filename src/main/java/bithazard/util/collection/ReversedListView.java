@@ -0,0 +1,130 @@
+package bithazard.util.collection;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+//Iterates with the iterator of the source list (backwards), so a sequential source is not accessed by index
+final class ReversedListView<E> extends ImmutableListView<E> implements RandomAccess {
+    private final List<E> source;
+
+    private ReversedListView(List<E> source) {
+        this.source = source;
+    }
+
+    static <E> List<E> of(List<E> list) {
+        List<E> view = list instanceof SequentialListView ? ((SequentialListView<E>) list).view() : list;
+        if (view instanceof ReversedListView) {
+            return ((ReversedListView<E>) view).source;
+        }
+        if (list instanceof MergedImmutableList) {
+            return ((MergedImmutableList<E>) list).reversed();
+        }
+        return SequentialListView.of(new ReversedListView<>(list), list instanceof RandomAccess);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    @Override
+    public E get(int index) {
+        int size = source.size();
+        Objects.checkIndex(index, size);
+        return source.get(size - 1 - index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return source.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int lastIndex = source.lastIndexOf(o);
+        return lastIndex == -1 ? -1 : source.size() - 1 - lastIndex;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = source.indexOf(o);
+        return index == -1 ? -1 : source.size() - 1 - index;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        int size = source.size();
+        Objects.checkIndex(index, size + 1);
+        return new ReversedListIterator<>(source.listIterator(size - index), size);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        ListIterator<E> it = source.listIterator(source.size());
+        while (it.hasPrevious()) {
+            action.accept(it.previous());
+        }
+    }
+
+    private static final class ReversedListIterator<E> implements ListIterator<E> {
+        private final ListIterator<E> sourceIterator;
+        private final int size;
+
+        ReversedListIterator(ListIterator<E> sourceIterator, int size) {
+            this.sourceIterator = sourceIterator;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sourceIterator.hasPrevious();
+        }
+
+        @Override
+        public E next() {
+            return sourceIterator.previous();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return sourceIterator.hasNext();
+        }
+
+        @Override
+        public E previous() {
+            return sourceIterator.next();
+        }
+
+        @Override
+        public int nextIndex() {
+            return size - 1 - sourceIterator.previousIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return size - 1 - sourceIterator.nextIndex();
+        }
+
+        @Override
+        public void add(E e) {throw new UnsupportedOperationException();}
+        @Override
+        public void remove() {throw new UnsupportedOperationException();}
+        @Override
+        public void set(E e) {throw new UnsupportedOperationException();}
+    }
+}
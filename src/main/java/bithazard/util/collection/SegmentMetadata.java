@@ -0,0 +1,120 @@
+package bithazard.util.collection;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+//Data derived from the elements of a merged list. It is cached by the identity of the list, so all merged lists that
+//contain the same list share it. The metadata must not reference its list, otherwise the list would never be collected.
+final class SegmentMetadata {
+    private static final ConcurrentHashMap<Key, SegmentMetadata> CACHE = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<List<?>> COLLECTED_SEGMENTS = new ReferenceQueue<>();
+    private final ConcurrentHashMap<Integer, long[]> bloomFilters = new ConcurrentHashMap<>(1);
+    //hashCode and powerOf31 are written before hashed is set
+    private volatile boolean hashed;
+    private int hashCode;
+    private int powerOf31;
+
+    private SegmentMetadata() {
+    }
+
+    static SegmentMetadata of(List<?> segment) {
+        removeCollectedSegments();
+        SegmentMetadata metadata = CACHE.get(new Key(segment, null));
+        if (metadata == null) {
+            SegmentMetadata newMetadata = new SegmentMetadata();
+            metadata = CACHE.putIfAbsent(new Key(segment, COLLECTED_SEGMENTS), newMetadata);
+            if (metadata == null) {
+                metadata = newMetadata;
+            }
+        }
+        return metadata;
+    }
+
+    static int cachedSegments() {
+        removeCollectedSegments();
+        return CACHE.size();
+    }
+
+    //Enqueues the key of the segment as the GC does once the segment was collected (for tests, as System.gc() might not
+    //collect anything)
+    static void enqueueAsCollected(List<?> segment) {
+        for (Key key : CACHE.keySet()) {
+            if (key.get() == segment) {
+                key.enqueue();
+            }
+        }
+    }
+
+    private static void removeCollectedSegments() {
+        Object collected;
+        while ((collected = COLLECTED_SEGMENTS.poll()) != null) {
+            CACHE.remove(collected);
+        }
+    }
+
+    int hashCode(List<?> segment) {
+        hash(segment);
+        return hashCode;
+    }
+
+    //31 to the power of the size of the segment, the factor for the hash code of everything before the segment
+    int powerOf31(List<?> segment) {
+        hash(segment);
+        return powerOf31;
+    }
+
+    private void hash(List<?> segment) {
+        if (!hashed) {
+            hashCode = segment.hashCode();
+            powerOf31 = powerOf31(segment.size());
+            hashed = true;
+        }
+    }
+
+    static int powerOf31(int exponent) {
+        int power = 1;
+        int base = 31;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                power *= base;
+            }
+            base *= base;
+            exponent >>>= 1;
+        }
+        return power;
+    }
+
+    long[] bloomFilter(int bitsPerElement, IntFunction<long[]> filterBuilder) {
+        return bloomFilters.computeIfAbsent(bitsPerElement, filterBuilder::apply);
+    }
+
+    private static final class Key extends WeakReference<List<?>> {
+        private final int identityHashCode;
+
+        Key(List<?> segment, ReferenceQueue<List<?>> queue) {
+            super(segment, queue);
+            this.identityHashCode = System.identityHashCode(segment);
+        }
+
+        @Override
+        public int hashCode() {
+            return identityHashCode;
+        }
+
+        //A key whose segment was collected is only equal to itself, so it can still be removed
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            List<?> segment = get();
+            return segment != null && segment == ((Key) obj).get();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package bithazard.util.collection;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+//A range of a random access list. Slicing a slice again creates a slice of the same root list, so any number of
+//subList calls results in exactly one level of indirection.
+final class SegmentSlice<E> extends ImmutableListView<E> implements RandomAccess {
+    private final List<E> root;
+    private final int offset;
+    private final int size;
+
+    private SegmentSlice(List<E> root, int offset, int size) {
+        this.root = root;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    static <E> List<E> of(List<E> list, int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == list.size()) {
+            return list;
+        }
+        if (list instanceof SegmentSlice) {
+            return ((SegmentSlice<E>) list).subList(fromIndex, toIndex);
+        }
+        if (!(list instanceof RandomAccess) || list instanceof ImmutableListView && ((ImmutableListView<E>) list).hasOwnSearch()) {
+            return list.subList(fromIndex, toIndex);
+        }
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return new SegmentSlice<>(list, fromIndex, toIndex - fromIndex);
+    }
+
+    List<E> root() {
+        return root;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return root.get(offset + index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, root.get(offset + i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, root.get(offset + i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SegmentSlice<>(root, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] copy = new Object[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = root.get(offset + i);
+        }
+        return copy;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            action.accept(root.get(i));
+        }
+    }
+}
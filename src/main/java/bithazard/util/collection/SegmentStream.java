@@ -0,0 +1,346 @@
+package bithazard.util.collection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+//A stream directly over a list. Operations that only need the size or the positions of the elements (count, toArray,
+//skip, limit, findFirst) are answered by the list itself. All other operations are passed to a regular stream over the
+//spliterator of the list, which splits along the merged lists.
+final class SegmentStream<E> implements Stream<E> {
+    private final List<E> list;
+    private final List<Runnable> closeHandlers;
+    private boolean parallel;
+    private boolean consumed;
+    private Stream<E> delegate;
+
+    SegmentStream(List<E> list, boolean parallel) {
+        this(list, parallel, new ArrayList<>());
+    }
+
+    private SegmentStream(List<E> list, boolean parallel, List<Runnable> closeHandlers) {
+        this.list = list;
+        this.parallel = parallel;
+        this.closeHandlers = closeHandlers;
+    }
+
+    private void consume() {
+        if (consumed) {
+            throw new IllegalStateException("stream has already been operated upon or closed");
+        }
+        consumed = true;
+    }
+
+    private Stream<E> delegate() {
+        consume();
+        delegate = StreamSupport.stream(list.spliterator(), parallel);
+        if (!closeHandlers.isEmpty()) {
+            delegate = delegate.onClose(this::runCloseHandlers);
+        }
+        return delegate;
+    }
+
+    @Override
+    public long count() {
+        consume();
+        return list.size();
+    }
+
+    @Override
+    public Object[] toArray() {
+        consume();
+        if (parallel && list instanceof MergedImmutableList) {
+            return ((MergedImmutableList<E>) list).parallelToArray();
+        }
+        return list.toArray();
+    }
+
+    @Override
+    public <A> A[] toArray(IntFunction<A[]> generator) {
+        consume();
+        A[] array = generator.apply(list.size());
+        if (parallel && list instanceof MergedImmutableList) {
+            return ((MergedImmutableList<E>) list).parallelToArray(array);
+        }
+        return list.toArray(array);
+    }
+
+    @Override
+    public Stream<E> skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(Long.toString(n));
+        }
+        consume();
+        int size = list.size();
+        return new SegmentStream<>(list.subList((int) Math.min(n, size), size), parallel, closeHandlers);
+    }
+
+    @Override
+    public Stream<E> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(Long.toString(maxSize));
+        }
+        consume();
+        if (list instanceof MergedImmutableList) {
+            //Only accesses the lists that contain the first maxSize elements
+            return new SegmentStream<>(((MergedImmutableList<E>) list).head((int) Math.min(maxSize, Integer.MAX_VALUE)), parallel,
+                    closeHandlers);
+        }
+        return new SegmentStream<>(list.subList(0, (int) Math.min(maxSize, list.size())), parallel, closeHandlers);
+    }
+
+    @Override
+    public Optional<E> findFirst() {
+        consume();
+        Iterator<E> iterator = list.iterator();
+        return iterator.hasNext() ? Optional.of(iterator.next()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<E> findAny() {
+        return findFirst();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (parallel) {
+            delegate().forEach(action);
+            return;
+        }
+        consume();
+        list.forEach(action);
+    }
+
+    @Override
+    public void forEachOrdered(Consumer<? super E> action) {
+        if (parallel) {
+            delegate().forEachOrdered(action);
+            return;
+        }
+        consume();
+        list.forEach(action);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        consume();
+        return list.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        consume();
+        return list.spliterator();
+    }
+
+    @Override
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    public Stream<E> sequential() {
+        parallel = false;
+        return this;
+    }
+
+    @Override
+    public Stream<E> parallel() {
+        parallel = true;
+        return this;
+    }
+
+    @Override
+    public Stream<E> unordered() {
+        return delegate().unordered();
+    }
+
+    @Override
+    public Stream<E> onClose(Runnable closeHandler) {
+        Objects.requireNonNull(closeHandler);
+        if (consumed) {
+            throw new IllegalStateException("stream has already been operated upon or closed");
+        }
+        closeHandlers.add(closeHandler);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        consumed = true;
+        if (delegate != null) {
+            delegate.close();
+        } else {
+            runCloseHandlers();
+        }
+    }
+
+    //The handlers are shared with the streams created by skip and limit and run only once
+    private void runCloseHandlers() {
+        Throwable exception = null;
+        for (Runnable closeHandler : closeHandlers) {
+            try {
+                closeHandler.run();
+            } catch (Throwable t) {
+                if (exception == null) {
+                    exception = t;
+                } else if (exception != t) {
+                    exception.addSuppressed(t);
+                }
+            }
+        }
+        closeHandlers.clear();
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException) exception;
+        }
+        if (exception instanceof Error) {
+            throw (Error) exception;
+        }
+    }
+
+    @Override
+    public Stream<E> filter(Predicate<? super E> predicate) {
+        return delegate().filter(predicate);
+    }
+
+    @Override
+    public <R> Stream<R> map(Function<? super E, ? extends R> mapper) {
+        return delegate().map(mapper);
+    }
+
+    @Override
+    public IntStream mapToInt(ToIntFunction<? super E> mapper) {
+        return delegate().mapToInt(mapper);
+    }
+
+    @Override
+    public LongStream mapToLong(ToLongFunction<? super E> mapper) {
+        return delegate().mapToLong(mapper);
+    }
+
+    @Override
+    public DoubleStream mapToDouble(ToDoubleFunction<? super E> mapper) {
+        return delegate().mapToDouble(mapper);
+    }
+
+    @Override
+    public <R> Stream<R> flatMap(Function<? super E, ? extends Stream<? extends R>> mapper) {
+        return delegate().flatMap(mapper);
+    }
+
+    @Override
+    public IntStream flatMapToInt(Function<? super E, ? extends IntStream> mapper) {
+        return delegate().flatMapToInt(mapper);
+    }
+
+    @Override
+    public LongStream flatMapToLong(Function<? super E, ? extends LongStream> mapper) {
+        return delegate().flatMapToLong(mapper);
+    }
+
+    @Override
+    public DoubleStream flatMapToDouble(Function<? super E, ? extends DoubleStream> mapper) {
+        return delegate().flatMapToDouble(mapper);
+    }
+
+    @Override
+    public Stream<E> distinct() {
+        return delegate().distinct();
+    }
+
+    @Override
+    public Stream<E> sorted() {
+        return delegate().sorted();
+    }
+
+    @Override
+    public Stream<E> sorted(Comparator<? super E> comparator) {
+        return delegate().sorted(comparator);
+    }
+
+    @Override
+    public Stream<E> peek(Consumer<? super E> action) {
+        return delegate().peek(action);
+    }
+
+    @Override
+    public Stream<E> takeWhile(Predicate<? super E> predicate) {
+        return delegate().takeWhile(predicate);
+    }
+
+    @Override
+    public Stream<E> dropWhile(Predicate<? super E> predicate) {
+        return delegate().dropWhile(predicate);
+    }
+
+    @Override
+    public E reduce(E identity, BinaryOperator<E> accumulator) {
+        return delegate().reduce(identity, accumulator);
+    }
+
+    @Override
+    public Optional<E> reduce(BinaryOperator<E> accumulator) {
+        return delegate().reduce(accumulator);
+    }
+
+    @Override
+    public <U> U reduce(U identity, BiFunction<U, ? super E, U> accumulator, BinaryOperator<U> combiner) {
+        return delegate().reduce(identity, accumulator, combiner);
+    }
+
+    @Override
+    public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super E> accumulator, BiConsumer<R, R> combiner) {
+        return delegate().collect(supplier, accumulator, combiner);
+    }
+
+    @Override
+    public <R, A> R collect(Collector<? super E, A, R> collector) {
+        return delegate().collect(collector);
+    }
+
+    @Override
+    public Optional<E> min(Comparator<? super E> comparator) {
+        return delegate().min(comparator);
+    }
+
+    @Override
+    public Optional<E> max(Comparator<? super E> comparator) {
+        return delegate().max(comparator);
+    }
+
+    @Override
+    public boolean anyMatch(Predicate<? super E> predicate) {
+        return delegate().anyMatch(predicate);
+    }
+
+    @Override
+    public boolean allMatch(Predicate<? super E> predicate) {
+        return delegate().allMatch(predicate);
+    }
+
+    @Override
+    public boolean noneMatch(Predicate<? super E> predicate) {
+        return delegate().noneMatch(predicate);
+    }
+}
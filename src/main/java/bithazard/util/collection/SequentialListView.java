@@ -0,0 +1,85 @@
+package bithazard.util.collection;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+
+//Hides the RandomAccess marker of a view over lists that are not RandomAccess (e.g. nested merged lists or distinct
+//views), so copyInto, appendTo and forEachBatch iterate it instead of calling get(index). The views iterate with the
+//iterators of their sources.
+final class SequentialListView<E> extends ImmutableListView<E> {
+    private final List<E> view;
+
+    private SequentialListView(List<E> view) {
+        this.view = view;
+    }
+
+    static <E> List<E> of(List<E> view, boolean randomAccess) {
+        return randomAccess ? view : new SequentialListView<>(view);
+    }
+
+    List<E> view() {
+        return view;
+    }
+
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return view.isEmpty();
+    }
+
+    @Override
+    public E get(int index) {
+        return view.get(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return view.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return view.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return view.lastIndexOf(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return view.iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return view.listIterator(index);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return new SequentialListView<>(view.subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public Object[] toArray() {
+        return view.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return view.toArray(a);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        view.forEach(action);
+    }
+}
@@ -0,0 +1,17 @@
+package bithazard.util.collection;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+//Java 21 version: every loader runs on its own virtual thread
+final class LoaderExecutor {
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("merged-immutable-list-loader-", 1).factory();
+    private static final Executor EXECUTOR = runnable -> THREAD_FACTORY.newThread(runnable).start();
+
+    private LoaderExecutor() {
+    }
+
+    static Executor get() {
+        return EXECUTOR;
+    }
+}
@@ -0,0 +1,89 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Two writer threads append lists while two reader threads take snapshots. Every thread performs BATCH_SIZE operations per
+//iteration (the merged list grows with every append, so the work per iteration has to be fixed). The locked variant
+//rebuilds the merged list for every append, like a holder that guards MergedImmutableList.of(...) with a lock.
+@State(Scope.Group)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(3)
+@Warmup(iterations = 5, batchSize = MergedImmutableListAccumulatorPerf.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = MergedImmutableListAccumulatorPerf.BATCH_SIZE)
+public class MergedImmutableListAccumulatorPerf {
+    static final int BATCH_SIZE = 5000;
+    private static final List<String> APPENDED_LIST = List.of("test1", "test2", "test3", "test4", "test5");
+    private final Object lock = new Object();
+    private MergedListAccumulator<String> accumulator;
+    private List<List<String>> lockedLists;
+    private volatile MergedImmutableList<String> lockedSnapshot;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListAccumulatorPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        accumulator = new MergedListAccumulator<>();
+        lockedLists = new ArrayList<>();
+        lockedSnapshot = MergedImmutableList.of();
+    }
+
+    @Benchmark
+    @Group("accumulator")
+    @GroupThreads(2)
+    public void appendUsingAccumulator() {
+        accumulator.append(APPENDED_LIST);
+    }
+
+    @Benchmark
+    @Group("accumulator")
+    @GroupThreads(2)
+    public int snapshotUsingAccumulator() {
+        return accumulator.snapshot().size();
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(2)
+    @SuppressWarnings("unchecked")
+    public void appendUsingLock() {
+        synchronized (lock) {
+            lockedLists.add(APPENDED_LIST);
+            lockedSnapshot = MergedImmutableList.of(lockedLists.toArray(new List[0]));
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(2)
+    public int snapshotUsingLock() {
+        return lockedSnapshot.size();
+    }
+}
@@ -0,0 +1,103 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+//Every list takes latencyMillis to load (e.g. from disk). Compares loading all lists one after another and merging them
+//afterwards with loading them concurrently by asyncOf, both until the first element and until all lists are available.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListAsyncLoadPerf {
+    private static final int ELEMENTS_PER_LIST = 1000;
+    @Param({"10", "100"})
+    private int numberOfLists;
+    @Param({"1", "10"})
+    private int latencyMillis;
+    private Callable<List<String>>[] loaders;
+    private ExecutorService executor;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListAsyncLoadPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        List<String>[] listsToMerge = MergedImmutableListShapes.createLists(numberOfLists, ELEMENTS_PER_LIST);
+        loaders = new Callable[numberOfLists];
+        for (int i = 0; i < numberOfLists; i++) {
+            List<String> list = listsToMerge[i];
+            loaders[i] = () -> {
+                Thread.sleep(latencyMillis);
+                return list;
+            };
+        }
+        //A thread for every list that is loaded, like a virtual thread per task executor (loads that are still running
+        //after firstElementUsingAsyncOf returned do not delay the next invocation)
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public String firstElementLoadingSequentially() throws Exception {
+        return loadSequentially().get(0);
+    }
+
+    @Benchmark
+    public String firstElementUsingAsyncOf() {
+        return MergedImmutableList.asyncOf(executor, loaders).get(0);
+    }
+
+    @Benchmark
+    public int fullyLoadedLoadingSequentially() throws Exception {
+        return loadSequentially().size();
+    }
+
+    @Benchmark
+    public int fullyLoadedUsingAsyncOf() {
+        return MergedImmutableList.asyncOf(executor, loaders).whenFullyLoaded().join().size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> loadSequentially() throws Exception {
+        List<String>[] lists = new List[loaders.length];
+        for (int i = 0; i < loaders.length; i++) {
+            lists[i] = loaders[i].call();
+        }
+        return MergedImmutableList.of(lists);
+    }
+}
@@ -0,0 +1,103 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+//Searches for elements of which hitPercent are contained, with and without Bloom filters. Fewer bitsPerElement mean
+//smaller filters but more false positives, i.e. lists that are scanned although they do not contain the element.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListBloomFilterPerf {
+    private static final int NUMBER_OF_PROBES = 64;
+    private static final long PROBES_SEED = 230685777655985L;
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    @Param({"0", "50", "100"})
+    private int hitPercent;
+    @Param({"2", "4", "8", "16"})
+    private int bitsPerElement;
+    private final String[] probes = new String[NUMBER_OF_PROBES];
+    private List<String>[] listsToMerge;
+    private MergedImmutableList<String> mergedImmutableList;
+    private MergedImmutableList<String> withBloomFilters;
+    private int probeIndex;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListBloomFilterPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    public void setup() {
+        listsToMerge = MergedImmutableListShapes.createLists(shape);
+        mergedImmutableList = MergedImmutableList.of(listsToMerge);
+        withBloomFilters = mergedImmutableList.withBloomFilters(bitsPerElement);
+        Random random = new Random(PROBES_SEED);
+        for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+            if (random.nextInt(100) < hitPercent) {
+                probes[i] = mergedImmutableList.get(random.nextInt(mergedImmutableList.size()));
+            } else {
+                probes[i] = UUID.randomUUID().toString();
+            }
+        }
+        //Builds the filters, so that the measurement only contains the searches
+        withBloomFilters.contains(probes[0]);
+    }
+
+    private String nextProbe() {
+        probeIndex = (probeIndex + 1) % NUMBER_OF_PROBES;
+        return probes[probeIndex];
+    }
+
+    @Benchmark
+    public boolean containsUsingMergedImmutableList() {
+        return mergedImmutableList.contains(nextProbe());
+    }
+
+    @Benchmark
+    public boolean containsUsingBloomFilters() {
+        return withBloomFilters.contains(nextProbe());
+    }
+
+    //The filters are cached per list, so a new merged list of the same lists does not build them again
+    @Benchmark
+    public boolean containsOfNewMergedListUsingBloomFilters() {
+        return MergedImmutableList.of(listsToMerge).withBloomFilters(bitsPerElement).contains(nextProbe());
+    }
+
+    @Benchmark
+    public int lastIndexOfUsingMergedImmutableList() {
+        return mergedImmutableList.lastIndexOf(nextProbe());
+    }
+
+    @Benchmark
+    public int lastIndexOfUsingBloomFilters() {
+        return withBloomFilters.lastIndexOf(nextProbe());
+    }
+}
@@ -0,0 +1,162 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+//All threads read the same merged list (Scope.Benchmark), which is how a shared snapshot is used in a server. The
+//'ThreadLocal' benchmarks read a list that is only used by one thread and show the cost of sharing the instance.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListConcurrentReadPerf {
+    //Step width for the indexes read by get(int), a prime so that all lists are visited
+    private static final int INDEX_STEP = 7919;
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private List<String>[] listsToMerge;
+    private List<String> sharedMergedImmutableList;
+    private List<String> sharedArrayList;
+    private String containedElement;
+    private String notContainedElement;
+
+    //Runs the suite with 1, 2, 4, ... threads up to the number of available processors (unless -t is given)
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListConcurrentReadPerf.class.getSimpleName());
+        }
+        if (commandLineOptions.getThreads().hasValue()) {
+            new Runner(commandLineOptions).run();
+            return;
+        }
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads *= 2) {
+            int threadsOfRun = Math.min(threads, availableProcessors);
+            new Runner(new OptionsBuilder().parent(commandLineOptions).threads(threadsOfRun).build()).run();
+            if (threadsOfRun == availableProcessors) {
+                break;
+            }
+        }
+    }
+
+    @Setup
+    public void setup() {
+        listsToMerge = MergedImmutableListShapes.createLists(shape);
+        sharedMergedImmutableList = MergedImmutableList.of(listsToMerge);
+        sharedArrayList = MergedImmutableListShapes.toArrayList(listsToMerge);
+        containedElement = listsToMerge[listsToMerge.length / 2].get(0);
+        notContainedElement = UUID.randomUUID().toString();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private List<String> threadLocalMergedImmutableList;
+        private int index;
+
+        @Setup
+        public void setup(MergedImmutableListConcurrentReadPerf shared) {
+            threadLocalMergedImmutableList = MergedImmutableList.of(shared.listsToMerge);
+        }
+
+        private int nextIndex(int size) {
+            index += INDEX_STEP;
+            if (index >= size) {
+                index %= size;
+            }
+            return index;
+        }
+    }
+
+    @Benchmark
+    public int sizeUsingSharedMergedImmutableList() {
+        return sharedMergedImmutableList.size();
+    }
+
+    @Benchmark
+    public int sizeUsingThreadLocalMergedImmutableList(ThreadState threadState) {
+        return threadState.threadLocalMergedImmutableList.size();
+    }
+
+    @Benchmark
+    public int sizeUsingSharedArrayList() {
+        return sharedArrayList.size();
+    }
+
+    @Benchmark
+    public String getUsingSharedMergedImmutableList(ThreadState threadState) {
+        return sharedMergedImmutableList.get(threadState.nextIndex(sharedMergedImmutableList.size()));
+    }
+
+    @Benchmark
+    public String getUsingThreadLocalMergedImmutableList(ThreadState threadState) {
+        List<String> list = threadState.threadLocalMergedImmutableList;
+        return list.get(threadState.nextIndex(list.size()));
+    }
+
+    @Benchmark
+    public String getUsingSharedArrayList(ThreadState threadState) {
+        return sharedArrayList.get(threadState.nextIndex(sharedArrayList.size()));
+    }
+
+    @Benchmark
+    public void iterateUsingSharedMergedImmutableList(Blackhole blackhole) {
+        for (String s : sharedMergedImmutableList) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void iterateUsingSharedArrayList(Blackhole blackhole) {
+        for (String s : sharedArrayList) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void containsUsingSharedMergedImmutableList(Blackhole blackhole) {
+        blackhole.consume(sharedMergedImmutableList.contains(containedElement));
+        blackhole.consume(sharedMergedImmutableList.contains(notContainedElement));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void containsUsingSharedArrayList(Blackhole blackhole) {
+        blackhole.consume(sharedArrayList.contains(containedElement));
+        blackhole.consume(sharedArrayList.contains(notContainedElement));
+    }
+
+    @Benchmark
+    public int hashCodeUsingSharedMergedImmutableList() {
+        return sharedMergedImmutableList.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeUsingSharedArrayList() {
+        return sharedArrayList.hashCode();
+    }
+}
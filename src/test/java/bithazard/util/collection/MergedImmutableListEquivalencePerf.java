@@ -0,0 +1,90 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+//Searches UUID strings (of which half are contained, as the same instances) with equals and with the other equivalences
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListEquivalencePerf {
+    private static final int NUMBER_OF_SEARCHED_ELEMENTS = 20;
+    private static final long SEARCHED_ELEMENTS_SEED = 230685777655985L;
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private final List<String> searchedElements = new ArrayList<>(NUMBER_OF_SEARCHED_ELEMENTS);
+    private MergedImmutableList<String> usingEquals;
+    private MergedImmutableList<String> usingHashThenEquals;
+    private MergedImmutableList<String> usingIdentity;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListEquivalencePerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    public void setup() {
+        usingEquals = MergedImmutableList.of(MergedImmutableListShapes.createLists(shape));
+        usingHashThenEquals = usingEquals.withEquivalence(ElementEquivalence.hashThenEquals());
+        usingIdentity = usingEquals.withEquivalence(ElementEquivalence.identity());
+        Random random = new Random(SEARCHED_ELEMENTS_SEED);
+        for (int i = 0; i < NUMBER_OF_SEARCHED_ELEMENTS; i++) {
+            if (i % 2 == 0) {
+                searchedElements.add(usingEquals.get(random.nextInt(usingEquals.size())));
+            } else {
+                searchedElements.add(UUID.randomUUID().toString());
+            }
+        }
+    }
+
+    private int countContained(List<String> list) {
+        int contained = 0;
+        for (String element : searchedElements) {
+            if (list.contains(element)) {
+                contained++;
+            }
+        }
+        return contained;
+    }
+
+    @Benchmark
+    public int containsUsingEquals() {
+        return countContained(usingEquals);
+    }
+
+    @Benchmark
+    public int containsUsingHashThenEquals() {
+        return countContained(usingHashThenEquals);
+    }
+
+    @Benchmark
+    public int containsUsingIdentity() {
+        return countContained(usingIdentity);
+    }
+}
@@ -0,0 +1,102 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Writes all elements (encoded as UTF-8 strings) to a local file. The baseline encodes one element after another into a
+//ByteArrayOutputStream and writes its content afterwards.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListExportPerf {
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private MergedImmutableList<String> mergedImmutableList;
+    private Path file;
+    private FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListExportPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        mergedImmutableList = MergedImmutableList.of(MergedImmutableListShapes.createLists(shape));
+        file = Files.createTempFile("merged-immutable-list-export", ".bin");
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        channel.close();
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long writeUsingByteArrayOutputStream() throws IOException {
+        channel.position(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ElementCodec<String> codec = ElementCodec.strings();
+        for (String element : mergedImmutableList) {
+            ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(element));
+            codec.encode(element, buffer);
+            out.write(buffer.array(), 0, buffer.position());
+        }
+        ByteBuffer content = ByteBuffer.wrap(out.toByteArray());
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+        return content.limit();
+    }
+
+    @Benchmark
+    public long writeUsingWriteTo() throws IOException {
+        channel.position(0);
+        return mergedImmutableList.writeTo(channel, ElementCodec.strings());
+    }
+
+    @Benchmark
+    public long writeUsingWriteToWithPassedBuffer() throws IOException {
+        channel.position(0);
+        return mergedImmutableList.writeTo(channel, ElementCodec.strings(), buffer);
+    }
+
+    @Benchmark
+    public long writeUsingParallelWriteTo() throws IOException {
+        channel.position(0);
+        return mergedImmutableList.parallelWriteTo(channel, ElementCodec.strings());
+    }
+}
@@ -0,0 +1,67 @@
+package bithazard.util.collection;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class MergedImmutableListFootprint {
+    //Same shapes (number of lists x elements per list) as used in the perf tests
+    private static final int[][] SHAPES = {{100, 100}, {1000, 1000}};
+
+    public static void main(String[] args) {
+        for (int[] shape : SHAPES) {
+            int numberOfLists = shape[0];
+            int elementsPerList = shape[1];
+            List<String>[] listsToMerge = MergedImmutableListShapes.createLists(numberOfLists, elementsPerList);
+            GraphLayout listsToMergeLayout = GraphLayout.parseInstance((Object[]) listsToMerge);
+            System.out.printf("Footprint (%dx%d), the merged lists themselves take %d bytes%n%n", numberOfLists, elementsPerList,
+                    listsToMergeLayout.totalSize());
+            System.out.println("| Merge method                  | Shallow size | Deep size (incl. merged lists) | Additional size |");
+            System.out.println("|-------------------------------|-------------:|-------------------------------:|----------------:|");
+            printFootprint("MergedImmutableList.of", MergedImmutableList.of(listsToMerge), listsToMergeLayout);
+            printFootprint("ArrayList.addAll", mergeUsingAddAll(listsToMerge), listsToMergeLayout);
+            printFootprint("Stream.concat", mergeUsingStreamConcat(listsToMerge), listsToMergeLayout);
+            printFootprint("Iterables.concat", Iterables.concat(listsToMerge), listsToMergeLayout);
+            printFootprint("ImmutableList.builder", mergeUsingImmutableListBuilder(listsToMerge), listsToMergeLayout);
+            System.out.println();
+        }
+    }
+
+    private static void printFootprint(String mergeMethod, Object merged, GraphLayout listsToMergeLayout) {
+        GraphLayout mergedLayout = GraphLayout.parseInstance(merged);
+        System.out.printf("| %-29s | %12d | %30d | %15d |%n", mergeMethod, shallowSizeOf(merged), mergedLayout.totalSize(),
+                mergedLayout.subtract(listsToMergeLayout).totalSize());
+    }
+
+    static long shallowSizeOf(Object object) {
+        return ClassLayout.parseInstance(object).instanceSize();
+    }
+
+    @SafeVarargs
+    static <T> List<T> mergeUsingAddAll(List<T>... lists) {
+        return MergedImmutableListShapes.toArrayList(lists);
+    }
+
+    @SafeVarargs
+    static <T> List<T> mergeUsingStreamConcat(List<T>... lists) {
+        Stream<T> stream = Stream.empty();
+        for (List<T> list : lists) {
+            stream = Stream.concat(stream, list.stream());
+        }
+        return stream.collect(Collectors.toList());
+    }
+
+    @SafeVarargs
+    static <T> List<T> mergeUsingImmutableListBuilder(List<T>... lists) {
+        ImmutableList.Builder<T> builder = ImmutableList.builder();
+        for (List<T> list : lists) {
+            builder.addAll(list);
+        }
+        return builder.build();
+    }
+}
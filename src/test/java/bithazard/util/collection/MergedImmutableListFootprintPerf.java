@@ -0,0 +1,121 @@
+package bithazard.util.collection;
+
+import com.google.common.collect.Iterables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListFootprintPerf {
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private List<String>[] listsToMerge;
+    private List<String> mergedImmutableList;
+    private List<String> arrayList;
+    private int subListFromIndex;
+    private int subListToIndex;
+
+    //The interesting metric is gc.alloc.rate.norm (bytes per operation). When JMH is started differently, add '-prof gc'
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListFootprintPerf.class.getSimpleName());
+        }
+        new Runner(new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class).build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        listsToMerge = MergedImmutableListShapes.createLists(shape);
+        int numberOfLists = listsToMerge.length;
+        int elementsPerList = listsToMerge[0].size();
+        mergedImmutableList = MergedImmutableList.of(listsToMerge);
+        arrayList = MergedImmutableListShapes.toArrayList(listsToMerge);
+        //Spans about half of the lists and starts and ends in the middle of a list
+        subListFromIndex = numberOfLists / 4 * elementsPerList + elementsPerList / 2;
+        subListToIndex = numberOfLists * 3 / 4 * elementsPerList + elementsPerList / 2;
+    }
+
+    @Benchmark
+    public List<String> mergeUsingMergedImmutableList() {
+        return MergedImmutableList.of(listsToMerge);
+    }
+
+    @Benchmark
+    public List<String> mergeUsingAddAll() {
+        return MergedImmutableListFootprint.mergeUsingAddAll(listsToMerge);
+    }
+
+    @Benchmark
+    public List<String> mergeUsingStreamConcat() {
+        return MergedImmutableListFootprint.mergeUsingStreamConcat(listsToMerge);
+    }
+
+    @Benchmark
+    public Iterable<String> mergeUsingIterablesConcat() {
+        return Iterables.concat(listsToMerge);
+    }
+
+    @Benchmark
+    public List<String> mergeUsingImmutableListBuilder() {
+        return MergedImmutableListFootprint.mergeUsingImmutableListBuilder(listsToMerge);
+    }
+
+    @Benchmark
+    public Object[] toArrayUsingMergedImmutableList() {
+        return mergedImmutableList.toArray();
+    }
+
+    @Benchmark
+    public Object[] toArrayUsingArrayList() {
+        return arrayList.toArray();
+    }
+
+    @Benchmark
+    public List<String> subListUsingMergedImmutableList() {
+        return mergedImmutableList.subList(subListFromIndex, subListToIndex);
+    }
+
+    @Benchmark
+    public List<String> subListUsingArrayList() {
+        return arrayList.subList(subListFromIndex, subListToIndex);
+    }
+
+    @Benchmark
+    public void iterateUsingMergedImmutableList(Blackhole blackhole) {
+        for (String s : mergedImmutableList) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void iterateUsingArrayList(Blackhole blackhole) {
+        for (String s : arrayList) {
+            blackhole.consume(s);
+        }
+    }
+}
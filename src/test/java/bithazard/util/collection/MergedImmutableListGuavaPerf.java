@@ -0,0 +1,117 @@
+package bithazard.util.collection;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Merges Guava ImmutableLists with GuavaLists.of, Iterables.concat and ImmutableList.builder().addAll(...) and compares
+//merging, converting the result to an ImmutableList and iterating it
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListGuavaPerf {
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private ImmutableList<String>[] listsToMerge;
+    private MergedImmutableList<String> mergedImmutableList;
+    private Iterable<String> concatenatedIterable;
+    private ImmutableList<String> immutableList;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListGuavaPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        List<String>[] lists = MergedImmutableListShapes.createLists(shape);
+        listsToMerge = new ImmutableList[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            listsToMerge[i] = ImmutableList.copyOf(lists[i]);
+        }
+        mergedImmutableList = mergeUsingGuavaLists();
+        concatenatedIterable = mergeUsingIterablesConcat();
+        immutableList = mergeUsingImmutableListBuilder();
+    }
+
+    @Benchmark
+    public MergedImmutableList<String> mergeUsingGuavaLists() {
+        return GuavaLists.of(listsToMerge);
+    }
+
+    @Benchmark
+    public Iterable<String> mergeUsingIterablesConcat() {
+        return Iterables.concat(listsToMerge);
+    }
+
+    @Benchmark
+    public ImmutableList<String> mergeUsingImmutableListBuilder() {
+        ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (ImmutableList<String> list : listsToMerge) {
+            builder.addAll(list);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ImmutableList<String> toImmutableListUsingGuavaLists() {
+        return GuavaLists.toImmutableList(mergedImmutableList);
+    }
+
+    @Benchmark
+    public ImmutableList<String> toImmutableListUsingCopyOf() {
+        return ImmutableList.copyOf(mergedImmutableList);
+    }
+
+    @Benchmark
+    public ImmutableList<String> toImmutableListUsingIterablesConcat() {
+        return ImmutableList.copyOf(concatenatedIterable);
+    }
+
+    @Benchmark
+    public void iterateUsingGuavaLists(Blackhole blackhole) {
+        for (String s : mergedImmutableList) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void iterateUsingIterablesConcat(Blackhole blackhole) {
+        for (String s : concatenatedIterable) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void iterateUsingImmutableListBuilder(Blackhole blackhole) {
+        for (String s : immutableList) {
+            blackhole.consume(s);
+        }
+    }
+}
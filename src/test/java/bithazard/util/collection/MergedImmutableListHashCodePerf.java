@@ -0,0 +1,74 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Every invocation merges the same lists in a different order (a new combination), so only the hash codes of the lists are
+//cached, not the one of the merged list. The ArrayList has to go through all elements every time.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListHashCodePerf {
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private List<String>[] listsToMerge;
+    private List<String>[] rotatedLists;
+    private List<String> arrayList;
+    private int rotation;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListHashCodePerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        listsToMerge = MergedImmutableListShapes.createLists(shape);
+        rotatedLists = new List[listsToMerge.length];
+        arrayList = MergedImmutableListShapes.toArrayList(listsToMerge);
+        //Calculates the hash codes of all lists once
+        MergedImmutableList.of(listsToMerge).hashCode();
+    }
+
+    private List<String>[] nextCombination() {
+        rotation = (rotation + 1) % listsToMerge.length;
+        for (int i = 0; i < listsToMerge.length; i++) {
+            rotatedLists[i] = listsToMerge[(i + rotation) % listsToMerge.length];
+        }
+        return rotatedLists;
+    }
+
+    @Benchmark
+    public int hashCodeOfNewCombinationUsingMergedImmutableList() {
+        return MergedImmutableList.of(nextCombination()).hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeUsingArrayList() {
+        return arrayList.hashCode();
+    }
+}
@@ -37,8 +37,13 @@ public class MergedImmutableListIndividualPerf {
     private static final int NUMBER_OF_CONTAINED_ELEMENTS = 20;
     private static final int CONTAINED_ELEMENTS_PERCENT = 50;
     private static final long CONTAINED_ELEMENTS_SEED = 230685777655985L;
+    private static final int BATCH_SIZE = 256;
     private final List<String> containedElements = new ArrayList<>(NUMBER_OF_CONTAINED_ELEMENTS * CONTAINED_ELEMENTS_PERCENT / 100);
     private final List<String> notContainedElements = new ArrayList<>(NUMBER_OF_CONTAINED_ELEMENTS * (100 - CONTAINED_ELEMENTS_PERCENT) / 100);
+    private static final int COPIED_RANGE_FROM = NUMBER_OF_LISTS * ELEMENTS_PER_LIST / 4;
+    private static final int COPIED_RANGE_TO = NUMBER_OF_LISTS * ELEMENTS_PER_LIST * 3 / 4;
+    private final String[] batch = new String[BATCH_SIZE];
+    private final Object[] buffer = new Object[NUMBER_OF_LISTS * ELEMENTS_PER_LIST];
     private List<String> mergedImmutableList;
     private List<String> arrayList;
 
@@ -93,6 +98,27 @@ public class MergedImmutableListIndividualPerf {
         return arrayList.toArray(new String[0]);
     }
 
+    //Copies the middle half of the elements into a preallocated buffer after its first quarter
+    @Benchmark
+    public Object[] copyIntoUsingMergedImmutableList() {
+        ((MergedImmutableList<String>) mergedImmutableList).copyInto(buffer, buffer.length / 4, COPIED_RANGE_FROM, COPIED_RANGE_TO);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object[] copyIntoUsingSubListToArray() {
+        Object[] range = mergedImmutableList.subList(COPIED_RANGE_FROM, COPIED_RANGE_TO).toArray();
+        System.arraycopy(range, 0, buffer, buffer.length / 4, range.length);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object[] copyIntoUsingArrayList() {
+        Object[] range = arrayList.subList(COPIED_RANGE_FROM, COPIED_RANGE_TO).toArray();
+        System.arraycopy(range, 0, buffer, buffer.length / 4, range.length);
+        return buffer;
+    }
+
     @Benchmark
     public void iterateUsingMergedImmutableList(Blackhole blackhole) {
         for (String s : mergedImmutableList) {
@@ -107,6 +133,43 @@ public class MergedImmutableListIndividualPerf {
         }
     }
 
+    @Benchmark
+    public Object[] streamSkipLimitToArrayUsingMergedImmutableList() {
+        return mergedImmutableList.stream().skip(NUMBER_OF_LISTS * ELEMENTS_PER_LIST / 4).limit(NUMBER_OF_LISTS * ELEMENTS_PER_LIST / 2).toArray();
+    }
+
+    @Benchmark
+    public Object[] streamSkipLimitToArrayUsingArrayList() {
+        return arrayList.stream().skip(NUMBER_OF_LISTS * ELEMENTS_PER_LIST / 4).limit(NUMBER_OF_LISTS * ELEMENTS_PER_LIST / 2).toArray();
+    }
+
+    @Benchmark
+    public List<String> streamCollectUsingMergedImmutableList() {
+        return mergedImmutableList.stream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> streamCollectUsingArrayList() {
+        return arrayList.stream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void batchesUsingMergedImmutableList(Blackhole blackhole) {
+        ((MergedImmutableList<String>) mergedImmutableList).forEachBatch(BATCH_SIZE, blackhole::consume);
+    }
+
+    @Benchmark
+    public void batchesIntoArrayUsingMergedImmutableList(Blackhole blackhole) {
+        ((MergedImmutableList<String>) mergedImmutableList).forEachBatch(batch, (b, filled) -> blackhole.consume(b));
+    }
+
+    @Benchmark
+    public void batchesUsingArrayList(Blackhole blackhole) {
+        for (int i = 0, size = arrayList.size(); i < size; i += BATCH_SIZE) {
+            blackhole.consume(arrayList.subList(i, Math.min(i + BATCH_SIZE, size)));
+        }
+    }
+
     @Benchmark
     @OperationsPerInvocation(2)
     public void containsOneUsingMergedImmutableList(Blackhole blackhole) {
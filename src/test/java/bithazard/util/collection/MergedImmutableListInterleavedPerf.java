@@ -0,0 +1,109 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Compares the interleaved view with an ArrayList that the elements were copied to round-robin. With equalSizes=false
+//every list is shorter than the one before it, so every list size is distinct.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListInterleavedPerf {
+    //Step width for the indexes read by get(int), a prime so that all lists are visited
+    private static final int INDEX_STEP = 7919;
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    @Param({"true", "false"})
+    private boolean equalSizes;
+    private List<String> interleaved;
+    private List<String> arrayList;
+    private int index;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListInterleavedPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    public void setup() {
+        List<String>[] listsToMerge = MergedImmutableListShapes.createLists(shape);
+        if (!equalSizes) {
+            for (int i = 0; i < listsToMerge.length; i++) {
+                List<String> list = listsToMerge[i];
+                listsToMerge[i] = List.copyOf(list.subList(0, list.size() - i * list.size() / listsToMerge.length));
+            }
+        }
+        interleaved = MergedImmutableList.interleaved(listsToMerge);
+        arrayList = new ArrayList<>(interleaved.size());
+        for (int round = 0; round < listsToMerge[0].size(); round++) {
+            for (List<String> list : listsToMerge) {
+                if (round < list.size()) {
+                    arrayList.add(list.get(round));
+                }
+            }
+        }
+    }
+
+    private int nextIndex(int size) {
+        index += INDEX_STEP;
+        if (index >= size) {
+            index %= size;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public String getUsingInterleaved() {
+        return interleaved.get(nextIndex(interleaved.size()));
+    }
+
+    @Benchmark
+    public String getUsingArrayList() {
+        return arrayList.get(nextIndex(arrayList.size()));
+    }
+
+    @Benchmark
+    public void forEachUsingInterleaved(Blackhole blackhole) {
+        interleaved.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEachUsingArrayList(Blackhole blackhole) {
+        arrayList.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public long parallelStreamCountUsingInterleaved() {
+        return interleaved.parallelStream().filter(element -> element.endsWith("7")).count();
+    }
+
+    @Benchmark
+    public long parallelStreamCountUsingArrayList() {
+        return arrayList.parallelStream().filter(element -> element.endsWith("7")).count();
+    }
+}
@@ -0,0 +1,188 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Compares the first call of an operation on a freshly merged list (first touch) with calls on a list that was already used (warm)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListLatencyPerf {
+    private static final int SINGLE_SHOT_WARMUP_ITERATIONS = 100;
+    private static final int SINGLE_SHOT_MEASUREMENT_ITERATIONS = 1000;
+    private static final int TAIL_SIZE = 20;
+
+    //Runs the suite once in SampleTime and once in SingleShotTime mode and writes the results as CSV files to the
+    //target directory. Two result files can be compared with MergedImmutableListPerfComparison.
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListLatencyPerf.class.getSimpleName());
+        }
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .mode(Mode.SampleTime)
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/latency-sample-" + timestamp + ".csv")
+                .build()).run();
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .mode(Mode.SingleShotTime)
+                .warmupIterations(SINGLE_SHOT_WARMUP_ITERATIONS)
+                .measurementIterations(SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/latency-singleshot-" + timestamp + ".csv")
+                .build()).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ListsToMerge {
+        @Param({"100x100", "1000x1000", "10000x10"})
+        private String shape;
+        private List<String>[] lists;
+
+        @Setup
+        public void setup() {
+            lists = MergedImmutableListShapes.createLists(shape);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreshList {
+        private MergedImmutableList<String> mergedImmutableList;
+
+        @Setup(Level.Invocation)
+        public void setup(ListsToMerge listsToMerge) {
+            mergedImmutableList = MergedImmutableList.of(listsToMerge.lists);
+        }
+    }
+
+    //hashCode caches the hash code of every merged list by its identity (see SegmentMetadata), so its first touch needs
+    //lists that were never hashed before. The lists are copied for every invocation.
+    @State(Scope.Thread)
+    public static class FreshListOfFreshLists {
+        private MergedImmutableList<String> mergedImmutableList;
+
+        @Setup(Level.Invocation)
+        @SuppressWarnings("unchecked")
+        public void setup(ListsToMerge listsToMerge) {
+            List<String>[] copies = new List[listsToMerge.lists.length];
+            for (int i = 0; i < copies.length; i++) {
+                copies[i] = List.of(listsToMerge.lists[i].toArray(new String[0]));
+            }
+            mergedImmutableList = MergedImmutableList.of(copies);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class WarmList {
+        private MergedImmutableList<String> mergedImmutableList;
+
+        @Setup
+        public void setup(ListsToMerge listsToMerge) {
+            mergedImmutableList = MergedImmutableList.of(listsToMerge.lists);
+            mergedImmutableList.size();
+            mergedImmutableList.hashCode();
+        }
+    }
+
+    @Benchmark
+    public int sizeFirstTouch(FreshList freshList) {
+        return freshList.mergedImmutableList.size();
+    }
+
+    @Benchmark
+    public int sizeWarm(WarmList warmList) {
+        return warmList.mergedImmutableList.size();
+    }
+
+    @Benchmark
+    public String getLastFirstTouch(FreshList freshList) {
+        List<String> list = freshList.mergedImmutableList;
+        return list.get(list.size() - 1);
+    }
+
+    @Benchmark
+    public String getLastWarm(WarmList warmList) {
+        List<String> list = warmList.mergedImmutableList;
+        return list.get(list.size() - 1);
+    }
+
+    @Benchmark
+    public String getLastUsingGetLastFirstTouch(FreshList freshList) {
+        return freshList.mergedImmutableList.getLast();
+    }
+
+    @Benchmark
+    public String getLastUsingGetLastWarm(WarmList warmList) {
+        return warmList.mergedImmutableList.getLast();
+    }
+
+    @Benchmark
+    public void tailFirstTouch(FreshList freshList, Blackhole blackhole) {
+        freshList.mergedImmutableList.tail(TAIL_SIZE).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void tailWarm(WarmList warmList, Blackhole blackhole) {
+        warmList.mergedImmutableList.tail(TAIL_SIZE).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public int hashCodeFirstTouch(FreshListOfFreshLists freshList) {
+        return freshList.mergedImmutableList.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeWarm(WarmList warmList) {
+        return warmList.mergedImmutableList.hashCode();
+    }
+
+    @Benchmark
+    public void iterateFirstTouch(FreshList freshList, Blackhole blackhole) {
+        for (String s : freshList.mergedImmutableList) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void iterateWarm(WarmList warmList, Blackhole blackhole) {
+        for (String s : warmList.mergedImmutableList) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    public Object[] toArrayFirstTouch(FreshList freshList) {
+        return freshList.mergedImmutableList.toArray();
+    }
+
+    @Benchmark
+    public Object[] toArrayWarm(WarmList warmList) {
+        return warmList.mergedImmutableList.toArray();
+    }
+}
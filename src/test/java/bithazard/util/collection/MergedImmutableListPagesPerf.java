@@ -0,0 +1,89 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Compares getting a page by subList(offset, offset + limit) with the pages view, for the first and the last page and
+//for all pages one after another
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListPagesPerf {
+    private static final int PAGE_SIZE = 50;
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private MergedImmutableList<String> mergedImmutableList;
+    private List<List<String>> pages;
+    private int lastPageOffset;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListPagesPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    public void setup() {
+        mergedImmutableList = MergedImmutableList.of(MergedImmutableListShapes.createLists(shape));
+        pages = mergedImmutableList.pages(PAGE_SIZE);
+        lastPageOffset = (pages.size() - 1) * PAGE_SIZE;
+    }
+
+    @Benchmark
+    public List<String> firstPageUsingSubList() {
+        return mergedImmutableList.subList(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<String> firstPageUsingPages() {
+        return pages.get(0);
+    }
+
+    @Benchmark
+    public List<String> lastPageUsingSubList() {
+        return mergedImmutableList.subList(lastPageOffset, Math.min(lastPageOffset + PAGE_SIZE, mergedImmutableList.size()));
+    }
+
+    @Benchmark
+    public List<String> lastPageUsingPages() {
+        return pages.get(pages.size() - 1);
+    }
+
+    @Benchmark
+    public void allPagesUsingSubList(Blackhole blackhole) {
+        int size = mergedImmutableList.size();
+        for (int offset = 0; offset < size; offset += PAGE_SIZE) {
+            blackhole.consume(mergedImmutableList.subList(offset, Math.min(offset + PAGE_SIZE, size)));
+        }
+    }
+
+    @Benchmark
+    public void allPagesUsingPages(Blackhole blackhole) {
+        for (List<String> page : pages) {
+            blackhole.consume(page);
+        }
+    }
+}
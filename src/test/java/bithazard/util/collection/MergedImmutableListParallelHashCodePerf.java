@@ -0,0 +1,106 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Compares hashCode and equals of merged lists with the ones of ArrayList. The hash codes of the lists are not cached
+//between invocations, so all elements are hashed each time. From 1 << 16 elements on both work concurrently.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListParallelHashCodePerf {
+    private static final String COMMON_POOL_PARALLELISM_PROPERTY = "java.util.concurrent.ForkJoinPool.common.parallelism";
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private MergedImmutableList<String> mergedImmutableList;
+    private List<String> arrayList;
+    private List<String> equalArrayList;
+    private List<String> arrayListDifferentAtEnd;
+
+    //Runs the suite with a common pool parallelism of 1, 2, 4, ... up to the number of available processors (unless
+    //the parallelism is set with -jvmArgsAppend)
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListParallelHashCodePerf.class.getSimpleName());
+        }
+        if (commandLineOptions.getJvmArgsAppend().hasValue()
+                && commandLineOptions.getJvmArgsAppend().get().stream().anyMatch(arg -> arg.contains(COMMON_POOL_PARALLELISM_PROPERTY))) {
+            new Runner(commandLineOptions).run();
+            return;
+        }
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; ; parallelism *= 2) {
+            int parallelismOfRun = Math.min(parallelism, availableProcessors);
+            new Runner(new OptionsBuilder().parent(commandLineOptions)
+                    .jvmArgsAppend("-D" + COMMON_POOL_PARALLELISM_PROPERTY + "=" + parallelismOfRun)
+                    .build()).run();
+            if (parallelismOfRun == availableProcessors) {
+                break;
+            }
+        }
+    }
+
+    @Setup
+    public void setup() {
+        List<String>[] listsToMerge = MergedImmutableListShapes.createLists(shape);
+        mergedImmutableList = MergedImmutableList.of(listsToMerge);
+        arrayList = MergedImmutableListShapes.toArrayList(listsToMerge);
+        equalArrayList = new ArrayList<>(arrayList);
+        arrayListDifferentAtEnd = new ArrayList<>(arrayList);
+        arrayListDifferentAtEnd.set(arrayListDifferentAtEnd.size() - 1, "different");
+    }
+
+    @Benchmark
+    public int hashCodeUsingArrayList() {
+        return arrayList.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeUsingMergedImmutableList() {
+        //The views are new lists, so their hash codes are not known yet
+        return mergedImmutableList.mapView(s -> s).hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsUsingArrayList() {
+        return arrayList.equals(equalArrayList);
+    }
+
+    @Benchmark
+    public boolean equalsUsingMergedImmutableList() {
+        return mergedImmutableList.equals(equalArrayList);
+    }
+
+    @Benchmark
+    public boolean notEqualsUsingArrayList() {
+        return arrayList.equals(arrayListDifferentAtEnd);
+    }
+
+    @Benchmark
+    public boolean notEqualsUsingMergedImmutableList() {
+        return mergedImmutableList.equals(arrayListDifferentAtEnd);
+    }
+}
@@ -0,0 +1,84 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListParallelToArrayPerf {
+    private static final String COMMON_POOL_PARALLELISM_PROPERTY = "java.util.concurrent.ForkJoinPool.common.parallelism";
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private MergedImmutableList<String> mergedImmutableList;
+
+    //Runs the suite with a common pool parallelism of 1, 2, 4, ... up to the number of available processors (unless
+    //the parallelism is set with -jvmArgsAppend)
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListParallelToArrayPerf.class.getSimpleName());
+        }
+        if (commandLineOptions.getJvmArgsAppend().hasValue()
+                && commandLineOptions.getJvmArgsAppend().get().stream().anyMatch(arg -> arg.contains(COMMON_POOL_PARALLELISM_PROPERTY))) {
+            new Runner(commandLineOptions).run();
+            return;
+        }
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; ; parallelism *= 2) {
+            int parallelismOfRun = Math.min(parallelism, availableProcessors);
+            new Runner(new OptionsBuilder().parent(commandLineOptions)
+                    .jvmArgsAppend("-D" + COMMON_POOL_PARALLELISM_PROPERTY + "=" + parallelismOfRun)
+                    .build()).run();
+            if (parallelismOfRun == availableProcessors) {
+                break;
+            }
+        }
+    }
+
+    @Setup
+    public void setup() {
+        mergedImmutableList = MergedImmutableList.of(MergedImmutableListShapes.createLists(shape));
+    }
+
+    @Benchmark
+    public Object[] toArrayUsingMergedImmutableList() {
+        return mergedImmutableList.toArray();
+    }
+
+    @Benchmark
+    public Object[] parallelToArrayUsingMergedImmutableList() {
+        return mergedImmutableList.parallelToArray();
+    }
+
+    @Benchmark
+    public String[] toArrayTypedUsingMergedImmutableList() {
+        return mergedImmutableList.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public String[] parallelToArrayTypedUsingMergedImmutableList() {
+        return mergedImmutableList.parallelToArray(new String[0]);
+    }
+}
@@ -0,0 +1,93 @@
+package bithazard.util.collection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//Compares two JMH result files in CSV format (-rf csv), e.g. the ones written by MergedImmutableListLatencyPerf.
+//Percentiles of the SampleTime mode are separate rows in these files, so they are compared like any other score.
+public class MergedImmutableListPerfComparison {
+    private static final int BENCHMARK_COLUMN = 0;
+    private static final int MODE_COLUMN = 1;
+    private static final int SCORE_COLUMN = 4;
+    private static final int UNIT_COLUMN = 6;
+    private static final int FIRST_PARAM_COLUMN = 7;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: MergedImmutableListPerfComparison <baseline.csv> <current.csv>");
+            System.exit(1);
+        }
+        Map<String, String[]> baseline = readResults(Path.of(args[0]));
+        Map<String, String[]> current = readResults(Path.of(args[1]));
+        System.out.println("| Benchmark | Baseline | Current | Change | Units |");
+        System.out.println("|-----------|---------:|--------:|-------:|------:|");
+        for (Map.Entry<String, String[]> entry : current.entrySet()) {
+            String[] currentResult = entry.getValue();
+            String[] baselineResult = baseline.get(entry.getKey());
+            double currentScore = parseScore(currentResult[SCORE_COLUMN]);
+            if (baselineResult == null) {
+                System.out.printf("| %s | | %.3f | | %s |%n", entry.getKey(), currentScore, currentResult[UNIT_COLUMN]);
+                continue;
+            }
+            double baselineScore = parseScore(baselineResult[SCORE_COLUMN]);
+            double change = (currentScore - baselineScore) / baselineScore * 100;
+            System.out.printf("| %s | %.3f | %.3f | %+.1f%% | %s |%n", entry.getKey(), baselineScore, currentScore, change,
+                    currentResult[UNIT_COLUMN]);
+        }
+    }
+
+    private static Map<String, String[]> readResults(Path csvFile) throws IOException {
+        List<String> lines = Files.readAllLines(csvFile, StandardCharsets.UTF_8);
+        Map<String, String[]> results = new LinkedHashMap<>();
+        String[] header = parseLine(lines.get(0));
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] columns = parseLine(line);
+            StringBuilder key = new StringBuilder(simpleBenchmarkName(columns[BENCHMARK_COLUMN]))
+                    .append(" (").append(columns[MODE_COLUMN]);
+            for (int i = FIRST_PARAM_COLUMN; i < columns.length; i++) {
+                key.append(", ").append(header[i].replace("Param: ", "")).append('=').append(columns[i]);
+            }
+            results.put(key.append(')').toString(), columns);
+        }
+        return results;
+    }
+
+    private static String simpleBenchmarkName(String benchmark) {
+        int lastDot = benchmark.lastIndexOf('.', benchmark.indexOf(':') == -1 ? benchmark.length() : benchmark.indexOf(':'));
+        int secondToLastDot = benchmark.lastIndexOf('.', lastDot - 1);
+        //Secondary results like percentiles are named 'Class.method:method·p0.99', which is shortened to 'Class.method·p0.99'
+        return benchmark.substring(secondToLastDot + 1).replaceFirst("\\.(\\w+):\\1", ".$1");
+    }
+
+    private static double parseScore(String score) {
+        return Double.parseDouble(score.replace(',', '.'));
+    }
+
+    private static String[] parseLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+        return columns.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,43 @@
+package bithazard.util.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//Creates the lists that the perf suites merge. A shape like "100x100" stands for 100 lists of 100 random UUID strings.
+final class MergedImmutableListShapes {
+    private MergedImmutableListShapes() {
+    }
+
+    static List<String>[] createLists(String shape) {
+        String[] dimensions = shape.split("x");
+        return createLists(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<String>[] createLists(int numberOfLists, int elementsPerList) {
+        List<String>[] lists = new List[numberOfLists];
+        for (int i = 0; i < numberOfLists; i++) {
+            lists[i] = Stream.generate(() -> UUID.randomUUID().toString())
+                    .limit(elementsPerList)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+        return lists;
+    }
+
+    //The elements of all lists in one ArrayList, as the baseline of the perf suites
+    @SafeVarargs
+    static <T> List<T> toArrayList(List<T>... lists) {
+        int totalSize = 0;
+        for (List<T> list : lists) {
+            totalSize += list.size();
+        }
+        List<T> arrayList = new ArrayList<>(totalSize);
+        for (List<T> list : lists) {
+            arrayList.addAll(list);
+        }
+        return arrayList;
+    }
+}
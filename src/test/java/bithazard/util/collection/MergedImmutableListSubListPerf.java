@@ -0,0 +1,108 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//The access benchmarks read from a list that was created by 'depth' nested subList calls (each removing the first and the
+//last element). Their cost should not depend on the depth.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListSubListPerf {
+    //Step width for the indexes read by get(int), a prime so that all lists are visited
+    private static final int INDEX_STEP = 7919;
+    private static final int BISECTION_LEAF_SIZE = 1024;
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    @Param({"1", "16", "256"})
+    private int depth;
+    private List<String> mergedImmutableList;
+    private List<String> arrayList;
+    private List<String> nestedSubListOfMergedImmutableList;
+    private List<String> nestedSubListOfArrayList;
+    private int index;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListSubListPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    public void setup() {
+        List<String>[] listsToMerge = MergedImmutableListShapes.createLists(shape);
+        mergedImmutableList = MergedImmutableList.of(listsToMerge);
+        arrayList = MergedImmutableListShapes.toArrayList(listsToMerge);
+        nestedSubListOfMergedImmutableList = nestSubLists(mergedImmutableList, depth);
+        nestedSubListOfArrayList = nestSubLists(arrayList, depth);
+    }
+
+    private static List<String> nestSubLists(List<String> list, int depth) {
+        for (int i = 0; i < depth; i++) {
+            list = list.subList(1, list.size() - 1);
+        }
+        return list;
+    }
+
+    private int nextIndex(int size) {
+        index += INDEX_STEP;
+        if (index >= size) {
+            index %= size;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public String getFromNestedSubListUsingMergedImmutableList() {
+        return nestedSubListOfMergedImmutableList.get(nextIndex(nestedSubListOfMergedImmutableList.size()));
+    }
+
+    @Benchmark
+    public String getFromNestedSubListUsingArrayList() {
+        return nestedSubListOfArrayList.get(nextIndex(nestedSubListOfArrayList.size()));
+    }
+
+    @Benchmark
+    public void recursiveBisectionUsingMergedImmutableList(Blackhole blackhole) {
+        bisect(mergedImmutableList, blackhole);
+    }
+
+    @Benchmark
+    public void recursiveBisectionUsingArrayList(Blackhole blackhole) {
+        bisect(arrayList, blackhole);
+    }
+
+    private static void bisect(List<String> list, Blackhole blackhole) {
+        int size = list.size();
+        if (size <= BISECTION_LEAF_SIZE) {
+            blackhole.consume(list.get(0));
+            blackhole.consume(list.get(size - 1));
+            return;
+        }
+        bisect(list.subList(0, size / 2), blackhole);
+        bisect(list.subList(size / 2, size), blackhole);
+    }
+}
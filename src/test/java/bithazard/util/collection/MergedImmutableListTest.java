@@ -1,29 +1,66 @@
 package bithazard.util.collection;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Named.named;
 
@@ -65,6 +102,15 @@ class MergedImmutableListTest {
         );
     }
 
+    //90000 elements, enough for hashCode and equals to work concurrently
+    private static List<String>[] largeLists() {
+        List<String>[] lists = new List[300];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = Stream.iterate(i * 300, n -> n + 1).limit(300).map(n -> "element" + n).collect(Collectors.toUnmodifiableList());
+        }
+        return lists;
+    }
+
     @Nested
     class Size {
         @ParameterizedTest
@@ -305,6 +351,34 @@ class MergedImmutableListTest {
         <T>void zeroElementSubListWorksCorrectlyForEmptyList(List<String> emptyList) {
             assertEquals(0, emptyList.subList(0, 0).size());
         }
+
+        @Test
+        void repeatedSubListsAreSlicesOfTheOriginalList() {
+            List<Integer> list = Stream.iterate(0, n -> n + 1).limit(1000).collect(Collectors.toUnmodifiableList());
+            List<Integer> subList = MergedImmutableList.of(List.of(-1), list, List.of(1000));
+            for (int i = 0; i < 100; i++) {
+                subList = subList.subList(1, subList.size() - 1);
+                if (i > 0) {
+                    assertSame(list, ((SegmentSlice<Integer>) subList).root());
+                }
+            }
+            assertEquals(802, subList.size());
+            assertEquals(99, subList.get(0));
+            assertEquals(900, subList.get(801));
+            assertEquals(100, subList.indexOf(199));
+            List<Integer> finalSubList = subList;
+            assertThrows(IndexOutOfBoundsException.class, () -> finalSubList.get(802));
+        }
+
+        @Test
+        void subListsAcrossListsStayFlat() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            List<String> subList = merged.subList(1, 6).subList(1, 4).subList(0, 2);
+            assertThat(subList).containsExactly("test3", "test4");
+            List<String>[] lists = ((MergedImmutableList<String>) subList).lists();
+            assertSame(SEVERAL_LISTS_DESC_SIZES[0], ((SegmentSlice<String>) lists[0]).root());
+            assertSame(SEVERAL_LISTS_DESC_SIZES[1], ((SegmentSlice<String>) lists[1]).root());
+        }
     }
 
     @Nested
@@ -362,6 +436,121 @@ class MergedImmutableListTest {
         }
     }
 
+    @Nested
+    class Pages {
+        @Test
+        void pagesHavePageSizeElementsExceptTheLastOne() {
+            List<List<String>> pages = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES).pages(4);
+            assertEquals(2, pages.size());
+            assertThat(pages.get(0)).containsExactly("test1", "test2", "test3", "test4");
+            assertThat(pages.get(1)).containsExactly("test5", "test6");
+            assertThrows(IndexOutOfBoundsException.class, () -> pages.get(2));
+        }
+
+        @Test
+        void pagesMatchSubLists() {
+            List<Integer>[] lists = new List[50];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = Stream.iterate(i * 100, n -> n + 1).limit(i % 4 == 0 ? 0 : i).collect(Collectors.toUnmodifiableList());
+            }
+            MergedImmutableList<Integer> merged = MergedImmutableList.of(lists);
+            for (int pageSize : new int[] {1, 7, 100, merged.size(), Integer.MAX_VALUE}) {
+                List<List<Integer>> pages = merged.pages(pageSize);
+                assertEquals((merged.size() + (long) pageSize - 1) / pageSize, pages.size());
+                for (int page = 0; page < pages.size(); page++) {
+                    int fromIndex = page * pageSize;
+                    assertEquals(merged.subList(fromIndex, (int) Math.min((long) fromIndex + pageSize, merged.size())), pages.get(page));
+                }
+                List<List<Integer>> iteratedPages = new ArrayList<>();
+                pages.forEach(iteratedPages::add);
+                assertEquals(pages, iteratedPages);
+            }
+        }
+
+        @Test
+        void pagesOfEmptyList() {
+            assertTrue(MergedImmutableList.of((List<String>[]) ONE_EMPTY_LIST).pages(10).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> MergedImmutableList.of((List<String>[]) ONE_EMPTY_LIST).pages(0));
+        }
+    }
+
+    @Nested
+    class CopyInto {
+        @Test
+        void copyIntoCopiesAnyRangeToAnyPosition() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            for (int fromIndex = 0; fromIndex <= merged.size(); fromIndex++) {
+                for (int toIndex = fromIndex; toIndex <= merged.size(); toIndex++) {
+                    Object[] destination = new Object[toIndex - fromIndex + 3];
+                    merged.copyInto(destination, 2, fromIndex, toIndex);
+                    assertNull(destination[0]);
+                    assertNull(destination[1]);
+                    assertEquals(merged.subList(fromIndex, toIndex), Arrays.asList(destination).subList(2, destination.length - 1));
+                    assertNull(destination[destination.length - 1]);
+                }
+            }
+        }
+
+        @Test
+        void copyIntoSupportsNestedAndNonRandomAccessLists() {
+            List<String> distinct = MergedImmutableList.distinct(DUPLICATED_ENTRIES_LISTS);
+            MergedImmutableList<String> nested = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            MergedImmutableList<String> merged = MergedImmutableList.of(distinct, nested, List.of("test7"));
+            String[] destination = new String[8];
+            merged.copyInto(destination, 0, 2, 10);
+            assertThat(destination).containsExactly("test4", "test5", "test1", "test2", "test3", "test4", "test5", "test6");
+        }
+
+        @Test
+        void copyIntoChecksTheRanges() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            Object[] destination = new Object[6];
+            assertThrows(IndexOutOfBoundsException.class, () -> merged.copyInto(destination, 0, -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> merged.copyInto(destination, 0, 2, 7));
+            assertThrows(IndexOutOfBoundsException.class, () -> merged.copyInto(destination, 0, 3, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> merged.copyInto(destination, 1, 0, 6));
+            assertThrows(IndexOutOfBoundsException.class, () -> merged.copyInto(destination, -1, 0, 1));
+            assertThrows(ArrayStoreException.class, () -> merged.copyInto(new Integer[6], 0, 0, 6));
+            merged.copyInto(destination, 6, 3, 3);
+            assertThat(destination).containsOnlyNulls();
+        }
+    }
+
+    @Nested
+    class ParallelToArray {
+        @Test
+        void parallelToArrayOfSmallListMatchesToArray() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            assertThat(merged.parallelToArray()).containsExactly(REFERENCE_FILLED_LIST.toArray());
+            assertThat(merged.parallelToArray(new String[0])).isInstanceOf(String[].class).containsExactly(REFERENCE_FILLED_LIST.toArray(new String[0]));
+        }
+
+        @Test
+        void parallelToArrayOfLargeListMatchesToArray() {
+            List<Integer>[] lists = new List[300];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = Stream.iterate(i * 1000, n -> n + 1).limit(i % 7 == 0 ? 0 : i * 3).collect(Collectors.toUnmodifiableList());
+            }
+            MergedImmutableList<Integer> merged = MergedImmutableList.of(lists);
+            assertThat(merged.parallelToArray()).containsExactly(merged.toArray());
+            assertThat(merged.parallelToArray(new Integer[0])).containsExactly(merged.toArray(new Integer[0]));
+        }
+
+        @Test
+        void parallelToArrayUsesPassedArrayIfLargeEnough() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            String[] array = {"a", "b", "c", "d", "e", "f", "g", "h"};
+            assertSame(array, merged.parallelToArray(array));
+            assertThat(array).containsExactly("test1", "test2", "test3", "test4", "test5", "test6", null, "h");
+        }
+
+        @Test
+        void parallelToArrayOfIncompatibleTypeFails() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            assertThrows(ArrayStoreException.class, () -> merged.parallelToArray(new Integer[0]));
+        }
+    }
+
     @Nested
     class Itr {
         @ParameterizedTest
@@ -612,6 +801,61 @@ class MergedImmutableListTest {
             List<String> expected = List.of();
             assertEquals(expected.hashCode(), emptyList.hashCode());
         }
+
+        @Test
+        void hashCodeIsCombinedFromTheHashCodesOfTheLists() {
+            List<Integer>[] lists = new List[20];
+            for (int i = 0; i < lists.length; i++) {
+                int start = i * 1000;
+                lists[i] = Stream.iterate(start, n -> n + 1).limit(i * 37 % 100).collect(Collectors.toUnmodifiableList());
+            }
+            MergedImmutableList<Integer> merged = MergedImmutableList.of(lists);
+            List<Integer> expected = Stream.of(lists).flatMap(List::stream).collect(Collectors.toList());
+            assertEquals(expected.hashCode(), merged.hashCode());
+            assertEquals(expected.hashCode(), merged.hashCode());
+            MergedImmutableList<Integer> nested = MergedImmutableList.of(lists[3], merged, merged.mapView(n -> n + 1));
+            List<Integer> expectedNested = new ArrayList<>(lists[3]);
+            expectedNested.addAll(expected);
+            expected.forEach(n -> expectedNested.add(n + 1));
+            assertEquals(expectedNested.hashCode(), nested.hashCode());
+        }
+
+        @Test
+        void hashCodesOfViewsAreNotCached() {
+            int[] numberOfCalls = new int[1];
+            MergedImmutableList<String> mapped = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES).mapView(s -> {
+                numberOfCalls[0]++;
+                return s;
+            });
+            List<String> segment = mapped.lists()[0];
+            assertEquals(List.of("test1", "test2", "test3", "test7").hashCode(), MergedImmutableList.of(segment, List.of("test7")).hashCode());
+            assertEquals(3, numberOfCalls[0]);
+            assertEquals(List.of("test0", "test1", "test2", "test3").hashCode(), MergedImmutableList.of(List.of("test0"), segment).hashCode());
+            assertEquals(6, numberOfCalls[0]);
+        }
+
+        @Test
+        void hashCodesOfSubListsDoNotAddSlicesToTheCache() {
+            List<Integer>[] lists = new List[100];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = List.of(i, i + 1, i + 2);
+            }
+            MergedImmutableList<Integer> merged = MergedImmutableList.of(lists);
+            merged.hashCode();
+            int cachedSegments = SegmentMetadata.cachedSegments();
+            for (int i = 1; i < 100; i++) {
+                List<Integer> subList = merged.subList(i, merged.size() - i);
+                assertEquals(new ArrayList<>(subList).hashCode(), subList.hashCode());
+            }
+            assertThat(SegmentMetadata.cachedSegments()).isLessThanOrEqualTo(cachedSegments);
+        }
+
+        @Test
+        void hashCodeOfLargeListIsEqualToHashCodeOfArrayList() {
+            List<String>[] lists = largeLists();
+            MergedImmutableList<String> merged = MergedImmutableList.of(lists).mapView(s -> s);
+            assertEquals(Stream.of(lists).flatMap(List::stream).collect(Collectors.toList()).hashCode(), merged.hashCode());
+        }
     }
 
     @Nested
@@ -660,6 +904,50 @@ class MergedImmutableListTest {
             List<String> expected = List.of();
             assertTrue(emptyList.equals(expected));
         }
+
+        @Test
+        void mergedListsAreComparedWithoutScanningIfPossible() {
+            int[] numberOfCalls = new int[1];
+            MergedImmutableList<String> mapped = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES).mapView(s -> {
+                numberOfCalls[0]++;
+                return s;
+            });
+            List<String> segment1 = mapped.lists()[0];
+            List<String> segment2 = mapped.lists()[1];
+            MergedImmutableList<String> merged = MergedImmutableList.of(segment1, segment2);
+            MergedImmutableList<String> sameLists = MergedImmutableList.of(segment1, segment2);
+            MergedImmutableList<String> otherLists = MergedImmutableList.of(segment2, segment1);
+            merged.hashCode();
+            otherLists.hashCode();
+            numberOfCalls[0] = 0;
+            assertTrue(merged.equals(sameLists));
+            assertFalse(merged.equals(otherLists));
+            assertEquals(0, numberOfCalls[0]);
+            assertTrue(merged.equals(List.of("test1", "test2", "test3", "test4", "test5")));
+        }
+
+        @Test
+        void largeListEqualsListWithSameElements() {
+            List<String>[] lists = largeLists();
+            MergedImmutableList<String> merged = MergedImmutableList.of(lists);
+            List<String> expected = Stream.of(lists).flatMap(List::stream).collect(Collectors.toList());
+            assertTrue(merged.equals(expected));
+            assertTrue(merged.equals(MergedImmutableList.of(List.copyOf(expected))));
+            assertTrue(merged.equals(merged.mapView(s -> s)));
+        }
+
+        @Test
+        void largeListDoesNotEqualListWithDifferentElement() {
+            List<String>[] lists = largeLists();
+            MergedImmutableList<String> merged = MergedImmutableList.of(lists);
+            List<String> differentAtEnd = Stream.of(lists).flatMap(List::stream).collect(Collectors.toList());
+            differentAtEnd.set(differentAtEnd.size() - 1, "test");
+            assertFalse(merged.equals(differentAtEnd));
+            List<String> differentAtStart = Stream.of(lists).flatMap(List::stream).collect(Collectors.toList());
+            differentAtStart.set(0, "test");
+            assertFalse(merged.equals(differentAtStart));
+            assertFalse(merged.equals(new LinkedList<>(differentAtStart)));
+        }
     }
 
     @Nested
@@ -677,6 +965,45 @@ class MergedImmutableListTest {
             String string = emptyList.toString();
             assertThat(string).isEqualTo("[]");
         }
+
+        @Test
+        void appendToAppendsSameCharactersAsToString() throws IOException {
+            MergedImmutableList<String> merged = MergedImmutableList.of(SEVERAL_LISTS_ASC_SIZES);
+            assertEquals("prefix [test1, test2, test3, test4, test5, test6]", merged.appendTo(new StringBuilder("prefix ")).toString());
+            assertEquals("[test1, test2, test3, test4, test5, test6]", merged.appendTo(new StringWriter()).toString());
+            MergedImmutableList<Integer> nested = MergedImmutableList.of(List.of(1, 2), MergedImmutableList.of(List.of(3), List.of(), List.of(4, 5)));
+            assertEquals(List.of(1, 2, 3, 4, 5).toString(), nested.toString());
+            assertEquals("[]", MergedImmutableList.of(NO_LISTS).appendTo(new StringBuilder()).toString());
+        }
+
+        @Test
+        void truncatedToStringOnlyContainsFirstAndLastElements() throws IOException {
+            MergedImmutableList<String> merged = MergedImmutableList.of(SEVERAL_LISTS_DESC_SIZES);
+            assertEquals("[test1, test2, ... (3 more), test6]", merged.toString(2, 1));
+            assertEquals("[test1, test2, ... (3 more), test6]", merged.appendTo(new StringWriter(), 2, 1).toString());
+            assertEquals("[... (4 more), test5, test6]", merged.toString(0, 2));
+            assertEquals("[test1, ... (5 more)]", merged.toString(1, 0));
+            assertEquals("[... (6 more)]", merged.toString(0, 0));
+            assertEquals(merged.toString(), merged.toString(3, 3));
+            assertEquals(merged.toString(), merged.toString(Integer.MAX_VALUE, Integer.MAX_VALUE));
+            assertThrows(IllegalArgumentException.class, () -> merged.toString(-1, 1));
+            assertThrows(IllegalArgumentException.class, () -> merged.appendTo(new StringBuilder(), 1, -1));
+        }
+
+        @Test
+        void truncatedToStringDoesNotAccessElementsInBetween() {
+            List<Integer> middle = MergedImmutableList.of(List.of(3, 4, 5)).mapView(n -> {
+                throw new AssertionError("Element " + n + " must not be accessed");
+            });
+            MergedImmutableList<Integer> merged = MergedImmutableList.of(List.of(1, 2), middle, List.of(6));
+            assertEquals("[1, ... (4 more), 6]", merged.toString(1, 1));
+        }
+
+        @Test
+        void toStringOfLargeListIsEqualToToStringOfArrayList() {
+            List<String>[] lists = largeLists();
+            assertEquals(Stream.of(lists).flatMap(List::stream).collect(Collectors.toList()).toString(), MergedImmutableList.of(lists).toString());
+        }
     }
 
     @Nested
@@ -743,6 +1070,1063 @@ class MergedImmutableListTest {
         }
     }
 
+    @Nested
+    class StreamFastPaths {
+        private final List<String> mapped = new ArrayList<>();
+        private final MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES)
+                .mapView(s -> {
+                    mapped.add(s);
+                    return s.toUpperCase();
+                });
+
+        @Test
+        void countDoesNotVisitElements() {
+            assertEquals(6, merged.stream().count());
+            assertEquals(6, merged.parallelStream().count());
+            assertThat(mapped).isEmpty();
+        }
+
+        @Test
+        void skipAndLimitOnlyVisitSelectedElements() {
+            assertThat(merged.stream().skip(2).limit(3).toArray()).containsExactly("TEST3", "TEST4", "TEST5");
+            assertThat(mapped).containsExactly("test3", "test4", "test5");
+            assertThat(merged.stream().skip(10).toArray()).isEmpty();
+            assertThat(merged.stream().limit(10).toArray(String[]::new)).containsExactly("TEST1", "TEST2", "TEST3", "TEST4", "TEST5", "TEST6");
+        }
+
+        @Test
+        void findFirstOnlyVisitsFirstElement() {
+            assertEquals("TEST4", merged.stream().skip(3).findFirst().orElseThrow());
+            assertThat(mapped).containsExactly("test4");
+            assertTrue(MergedImmutableList.of((List<String>[]) ONE_EMPTY_LIST).stream().findFirst().isEmpty());
+        }
+
+        @Test
+        void otherOperationsAreDelegated() {
+            assertThat(merged.stream().skip(1).filter(s -> !s.endsWith("4")).map(String::toLowerCase).collect(Collectors.toList()))
+                    .containsExactly("test2", "test3", "test5", "test6");
+            assertEquals("TEST6", merged.parallelStream().reduce((a, b) -> b).orElseThrow());
+            assertEquals(21, merged.stream().mapToInt(s -> Integer.parseInt(s.substring(4))).sum());
+        }
+
+        @Test
+        void parallelToArrayKeepsEncounterOrder() {
+            assertThat(merged.parallelStream().toArray(String[]::new)).containsExactly("TEST1", "TEST2", "TEST3", "TEST4", "TEST5", "TEST6");
+            List<String> result = new ArrayList<>();
+            merged.parallelStream().forEachOrdered(result::add);
+            assertThat(result).containsExactly("TEST1", "TEST2", "TEST3", "TEST4", "TEST5", "TEST6");
+        }
+
+        @Test
+        void streamCanOnlyBeUsedOnce() {
+            Stream<String> stream = merged.stream();
+            stream.count();
+            assertThrows(IllegalStateException.class, stream::count);
+            Stream<String> skipped = merged.stream();
+            skipped.skip(1);
+            assertThrows(IllegalStateException.class, () -> skipped.filter(s -> true));
+        }
+
+        @Test
+        void closeHandlersRunOnceAfterDelegation() {
+            List<String> closed = new ArrayList<>();
+            try (Stream<String> stream = merged.stream().onClose(() -> closed.add("first")).skip(1).onClose(() -> closed.add("second"))) {
+                assertEquals(5, stream.filter(s -> true).count());
+            }
+            assertThat(closed).containsExactly("first", "second");
+        }
+    }
+
+    @Nested
+    class SequencedMethods {
+        @Test
+        void getFirstAndGetLastSkipEmptyLists() {
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of(), List.of("test1", "test2"), List.of("test3"), List.of());
+            assertEquals("test1", merged.getFirst());
+            assertEquals("test3", merged.getLast());
+            MergedImmutableList<String> empty = MergedImmutableList.of((List<String>[]) ONE_EMPTY_LIST);
+            assertThrows(NoSuchElementException.class, empty::getFirst);
+            assertThrows(NoSuchElementException.class, empty::getLast);
+        }
+
+        @Test
+        void emptyListsAreLeftOut() {
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of(), List.of("test1"), List.of(), List.of("test2"), List.of());
+            assertEquals(2, merged.lists().length);
+            assertSame(MergedImmutableList.of(), MergedImmutableList.of(List.of(), List.of()));
+        }
+
+        @ParameterizedTest
+        @MethodSource(FILLED_LIST_PROVIDER_FQN)
+        <T>void headAndTailContainFirstAndLastElements(List<String> filledList) {
+            MergedImmutableList<String> merged = MergedImmutableList.of(filledList, List.of("test7", "test8"));
+            assertThat(merged.head(3)).containsExactly("test1", "test2", "test3");
+            assertThat(merged.tail(3)).containsExactly("test6", "test7", "test8");
+            assertThat(merged.tail(2)).containsExactly("test7", "test8");
+            assertThat(merged.head(0)).isEmpty();
+            assertThat(merged.tail(0)).isEmpty();
+            assertSame(merged, merged.head(8));
+            assertSame(merged, merged.tail(100));
+            assertThrows(IllegalArgumentException.class, () -> merged.head(-1));
+        }
+
+        @Test
+        void tailDoesNotAccessFirstLists() {
+            CompletableFuture<List<String>> first = new CompletableFuture<>();
+            MergedImmutableList<String> merged = MergedImmutableList.asyncOf(first, CompletableFuture.completedFuture(List.of("test1", "test2")));
+            assertThat(merged.tail(2)).containsExactly("test1", "test2");
+            assertEquals("test2", merged.getLast());
+            assertFalse(first.isDone());
+        }
+
+        @ParameterizedTest
+        @MethodSource(FILLED_LIST_PROVIDER_FQN)
+        <T>void reversedContainsElementsInReverseOrder(List<String> filledList) {
+            List<String> reversed = MergedImmutableList.of(filledList, List.of("test7")).reversed();
+            assertThat(reversed).containsExactly("test7", "test6", "test5", "test4", "test3", "test2", "test1");
+            assertEquals("test5", reversed.get(2));
+            assertEquals(1, reversed.indexOf("test6"));
+            assertThat(reversed.subList(1, 3)).containsExactly("test6", "test5");
+            assertThat(reversed.stream().skip(5).toArray()).containsExactly("test2", "test1");
+        }
+
+        @Test
+        void reversingTwiceReturnsTheOriginalLists() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            MergedImmutableList<String> twiceReversed = (MergedImmutableList<String>) ((MergedImmutableList<String>) merged.reversed()).reversed();
+            assertEquals(merged, twiceReversed);
+            assertSame(SEVERAL_LISTS_DESC_SIZES[0], twiceReversed.lists()[0]);
+        }
+    }
+
+    @Nested
+    class Distinct {
+        @Test
+        void distinctKeepsFirstOccurrenceOfEachElement() {
+            List<String> distinct = MergedImmutableList.distinct(DUPLICATED_ENTRIES_LISTS);
+            assertThat(distinct).containsExactly("test1", "test2", "test4", "test5");
+            assertEquals(4, distinct.size());
+            assertEquals("test4", distinct.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> distinct.get(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> distinct.get(-1));
+        }
+
+        @Test
+        void indexOfAndLastIndexOfReferToDistinctPositions() {
+            List<String> distinct = MergedImmutableList.distinct(DUPLICATED_ENTRIES_LISTS);
+            assertEquals(1, distinct.indexOf("test2"));
+            assertEquals(1, distinct.lastIndexOf("test2"));
+            assertEquals(3, distinct.indexOf("test5"));
+            assertEquals(-1, distinct.indexOf("test23"));
+            assertTrue(distinct.contains("test4"));
+        }
+
+        @Test
+        void distinctMatchesLinkedHashSetForOverlappingLists() {
+            List<Integer>[] lists = new List[5];
+            for (int i = 0; i < lists.length; i++) {
+                int start = i * 150;
+                lists[i] = Stream.iterate(start, n -> n + 1).limit(300).collect(Collectors.toUnmodifiableList());
+            }
+            List<Integer> expected = List.copyOf(new LinkedHashSet<>(MergedImmutableList.of(lists)));
+            List<Integer> distinct = MergedImmutableList.distinct(lists);
+            Iterator<Integer> iterator = distinct.iterator();
+            for (int i = 0; i < 100; i++) {
+                assertEquals(expected.get(i), iterator.next());
+            }
+            assertEquals(expected.get(700), distinct.get(700));
+            assertEquals(expected.size(), distinct.size());
+            assertEquals(expected, distinct);
+            assertEquals(expected.hashCode(), distinct.hashCode());
+            for (int i = 0; i < expected.size(); i += 37) {
+                assertEquals(expected.get(i), distinct.get(i));
+                assertEquals(i, distinct.indexOf(expected.get(i)));
+            }
+        }
+
+        @Test
+        void distinctOfEmptyListsIsEmpty() {
+            assertThat(MergedImmutableList.distinct(NO_LISTS)).isEmpty();
+            assertThat(MergedImmutableList.distinct(ONE_EMPTY_LIST)).isEmpty();
+        }
+
+        @Test
+        void distinctListIsImmutable() {
+            List<String> distinct = MergedImmutableList.distinct(DUPLICATED_ENTRIES_LISTS);
+            assertThrows(UnsupportedOperationException.class, () -> distinct.add("test6"));
+            assertThrows(UnsupportedOperationException.class, () -> distinct.remove("test1"));
+            assertThrows(UnsupportedOperationException.class, () -> distinct.set(0, "test6"));
+            assertThrows(UnsupportedOperationException.class, distinct::clear);
+        }
+    }
+
+    @Nested
+    class Interleaved {
+        @Test
+        void interleavedTakesOneElementOfEachListPerRound() {
+            List<String> interleaved = MergedImmutableList.interleaved(List.of("a1", "a2", "a3"), List.of("b1", "b2", "b3"),
+                    List.of("c1", "c2", "c3"));
+            assertThat(interleaved).containsExactly("a1", "b1", "c1", "a2", "b2", "c2", "a3", "b3", "c3");
+            assertEquals(9, interleaved.size());
+            assertEquals("b2", interleaved.get(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> interleaved.get(9));
+            assertThrows(IndexOutOfBoundsException.class, () -> interleaved.get(-1));
+        }
+
+        @Test
+        void interleavedSkipsListsWithoutMoreElements() {
+            List<String> interleaved = MergedImmutableList.interleaved((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            List<String> expected = List.of("test1", "test4", "test6", "test2", "test5", "test3");
+            assertThat(interleaved).containsExactlyElementsOf(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), interleaved.get(i));
+            }
+            assertEquals(expected, interleaved);
+            assertEquals(expected.hashCode(), interleaved.hashCode());
+            assertEquals(3, interleaved.indexOf("test2"));
+            assertTrue(interleaved.contains("test6"));
+            assertFalse(interleaved.contains("test23"));
+        }
+
+        @Test
+        void interleavedMatchesRoundRobinCopyForListsOfDifferentSizes() {
+            List<Integer>[] lists = new List[7];
+            for (int i = 0; i < lists.length; i++) {
+                int start = i * 1000;
+                lists[i] = Stream.iterate(start, n -> n + 1).limit((i * 37) % 101).collect(Collectors.toUnmodifiableList());
+            }
+            List<Integer> expected = new ArrayList<>();
+            for (int round = 0; round < 101; round++) {
+                for (List<Integer> list : lists) {
+                    if (round < list.size()) {
+                        expected.add(list.get(round));
+                    }
+                }
+            }
+            List<Integer> interleaved = MergedImmutableList.interleaved(lists);
+            assertEquals(expected.size(), interleaved.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), interleaved.get(i));
+            }
+            List<Integer> iterated = new ArrayList<>();
+            interleaved.forEach(iterated::add);
+            assertEquals(expected, iterated);
+            assertEquals(expected, interleaved.parallelStream().collect(Collectors.toList()));
+            assertEquals(expected.subList(100, 200), interleaved.subList(100, 200));
+        }
+
+        @Test
+        void interleavedSpliteratorSplitsByIndex() {
+            List<String> interleaved = MergedImmutableList.interleaved((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            Spliterator<String> suffix = interleaved.spliterator();
+            Spliterator<String> prefix = suffix.trySplit();
+            assertEquals(3, prefix.estimateSize());
+            assertEquals(3, suffix.estimateSize());
+            List<String> elements = new ArrayList<>();
+            prefix.forEachRemaining(elements::add);
+            suffix.forEachRemaining(elements::add);
+            assertThat(elements).containsExactly("test1", "test2", "test4", "test3", "test5", "test6");
+        }
+
+        @Test
+        void interleavedOfEmptyListsIsEmpty() {
+            assertThat(MergedImmutableList.interleaved(NO_LISTS)).isEmpty();
+            assertThat(MergedImmutableList.interleaved(ONE_EMPTY_LIST)).isEmpty();
+        }
+
+        @Test
+        void interleavedListIsImmutable() {
+            List<String> interleaved = MergedImmutableList.interleaved((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            assertThrows(UnsupportedOperationException.class, () -> interleaved.add("test7"));
+            assertThrows(UnsupportedOperationException.class, () -> interleaved.set(0, "test7"));
+            assertThrows(UnsupportedOperationException.class, interleaved::clear);
+            assertThrows(IllegalArgumentException.class, () -> MergedImmutableList.interleaved(new ArrayList<>()));
+        }
+    }
+
+    @Nested
+    class BloomFilters {
+        @Test
+        void searchesFindTheSameElementsAsWithoutFilters() {
+            MergedImmutableList<String> merged = MergedImmutableList.of(DUPLICATED_ENTRIES_LISTS);
+            MergedImmutableList<String> filtered = merged.withBloomFilters();
+            for (String element : List.of("test1", "test2", "test4", "test5", "test23")) {
+                assertEquals(merged.contains(element), filtered.contains(element));
+                assertEquals(merged.indexOf(element), filtered.indexOf(element));
+                assertEquals(merged.lastIndexOf(element), filtered.lastIndexOf(element));
+            }
+            assertTrue(filtered.containsAll(List.of("test1", "test5")));
+            assertFalse(filtered.containsAll(List.of("test1", "test23")));
+            assertFalse(filtered.contains(null));
+            assertEquals(merged, filtered);
+        }
+
+        @Test
+        void listsWithoutTheElementAreMostlyNotScanned() {
+            List<Integer>[] lists = new List[10];
+            for (int i = 0; i < lists.length; i++) {
+                int start = i * 1000;
+                lists[i] = Stream.iterate(start, n -> n + 1).limit(1000).collect(Collectors.toUnmodifiableList());
+            }
+            int[] numberOfCalls = new int[1];
+            MergedImmutableList<Integer> filtered = MergedImmutableList.of(lists).mapView(n -> {
+                numberOfCalls[0]++;
+                return n;
+            }).withBloomFilters();
+            assertEquals(5500, filtered.indexOf(5500));
+            numberOfCalls[0] = 0;
+            for (int i = 0; i < 100; i++) {
+                assertFalse(filtered.contains(10_000 + i));
+                assertEquals(-1, filtered.lastIndexOf(-1 - i));
+            }
+            //A scan of all lists would take 2 * 100 * 10000 calls, each false positive scans one list
+            assertThat(numberOfCalls[0]).isLessThan(2 * 100 * 1000);
+            assertEquals(9999, filtered.indexOf(9999));
+        }
+
+        @Test
+        void filterOfAListIsSharedByAllMergedListsContainingIt() {
+            List<String> shared = List.of("test1", "test2", "test3");
+            assertSame(SegmentMetadata.of(shared), SegmentMetadata.of(shared));
+            assertNotSame(SegmentMetadata.of(shared), SegmentMetadata.of(List.of("test1", "test2", "test3")));
+            assertTrue(MergedImmutableList.of(List.of("test4"), shared).withBloomFilters(5).contains("test2"));
+            int[] numberOfBuilds = new int[1];
+            SegmentMetadata.of(shared).bloomFilter(5, bitsPerElement -> {
+                numberOfBuilds[0]++;
+                return new long[1];
+            });
+            assertEquals(0, numberOfBuilds[0]);
+            MergedImmutableList<String> otherCombination = MergedImmutableList.of(shared, List.of("test5")).withBloomFilters(5);
+            assertTrue(otherCombination.contains("test3"));
+            assertFalse(otherCombination.contains("test4"));
+        }
+
+        @Test
+        void bitsPerElementMustBePositive() {
+            MergedImmutableList<String> merged = MergedImmutableList.of(DUPLICATED_ENTRIES_LISTS);
+            assertThrows(IllegalArgumentException.class, () -> merged.withBloomFilters(0));
+            assertTrue(merged.withBloomFilters(1).contains("test5"));
+        }
+
+        @Test
+        void filtersOfCollectedListsAreRemovedFromTheCache() {
+            List<String> kept = List.of("kept1", "kept2");
+            List<String> collected = List.of("collected");
+            assertTrue(MergedImmutableList.of(kept, collected).withBloomFilters().contains("collected"));
+            int cachedSegments = SegmentMetadata.cachedSegments();
+            SegmentMetadata.enqueueAsCollected(collected);
+            assertThat(SegmentMetadata.cachedSegments()).isLessThan(cachedSegments);
+            assertTrue(MergedImmutableList.of(kept).withBloomFilters().contains("kept2"));
+        }
+    }
+
+    @Nested
+    class Equivalence {
+        @Test
+        void identityOnlyMatchesTheSameInstance() {
+            String element = new String("test2");
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of("test1", element), List.of("test3", element))
+                    .withEquivalence(ElementEquivalence.identity());
+            assertTrue(merged.contains(element));
+            assertFalse(merged.contains(new String("test2")));
+            assertEquals(1, merged.indexOf(element));
+            assertEquals(3, merged.lastIndexOf(element));
+            assertEquals(-1, merged.indexOf(new String("test2")));
+            assertFalse(merged.containsAll(List.of(element, new String("test3"))));
+        }
+
+        @Test
+        void bloomFiltersOnTopKeepTheEquivalenceInSlices() {
+            String element = new String("test2");
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of("test1", element), List.of("test3", "test4"))
+                    .withEquivalence(ElementEquivalence.identity()).withBloomFilters();
+            String copy = new String("test2");
+            assertFalse(merged.contains(copy));
+            assertFalse(merged.subList(1, 2).contains(copy));
+            assertFalse(merged.subList(1, 3).contains(copy));
+            assertFalse(merged.head(2).contains(copy));
+            assertFalse(merged.tail(3).contains(copy));
+            assertTrue(merged.tail(3).contains(element));
+            assertFalse(merged.pages(1).get(1).contains(copy));
+            assertTrue(merged.pages(1).get(1).contains(element));
+            merged.forEachBatch(2, batch -> assertFalse(batch.contains(copy)));
+            assertEquals(-1, merged.subList(0, 3).indexOf(copy));
+            assertEquals(1, merged.subList(0, 3).indexOf(element));
+        }
+
+        @Test
+        void hashThenEqualsFindsTheSameElementsAsEquals() {
+            MergedImmutableList<String> merged = MergedImmutableList.of(DUPLICATED_ENTRIES_LISTS);
+            MergedImmutableList<String> searched = merged.withEquivalence(ElementEquivalence.hashThenEquals());
+            for (String element : List.of("test1", "test2", "test4", "test5", "test23")) {
+                String copy = new String(element);
+                assertEquals(merged.contains(copy), searched.contains(copy));
+                assertEquals(merged.indexOf(copy), searched.indexOf(copy));
+                assertEquals(merged.lastIndexOf(copy), searched.lastIndexOf(copy));
+            }
+            assertFalse(searched.contains(null));
+            assertEquals(merged, searched);
+            assertTrue(searched.withBloomFilters().containsAll(List.of("test4", "test2")));
+        }
+
+        @Test
+        void customEquivalenceIsUsedForAllSearches() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES)
+                    .withEquivalence(ElementEquivalence.of((searched, element) -> ((String) element).equalsIgnoreCase((String) searched)));
+            assertTrue(merged.contains("TEST5"));
+            assertEquals(2, merged.indexOf("Test3"));
+            assertEquals(5, merged.lastIndexOf("tEST6"));
+            assertEquals(1, merged.subList(3, 6).indexOf("TEST5"));
+            assertEquals(0, merged.subList(4, 6).indexOf("TEST5"));
+            assertTrue(merged.subList(1, 2).contains("TEST2"));
+            assertTrue(merged.containsAll(List.of("TEST1", "test4")));
+        }
+    }
+
+    @Nested
+    class MapView {
+        @Test
+        void mapViewMapsAllElements() {
+            List<Integer> mapped = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES).mapView(s -> Integer.parseInt(s.substring(4)));
+            assertThat(mapped).containsExactly(1, 2, 3, 4, 5, 6);
+            assertEquals(6, mapped.size());
+            assertEquals(4, mapped.get(3));
+            assertEquals(2, mapped.indexOf(3));
+            assertThat(mapped.subList(1, 4)).containsExactly(2, 3, 4);
+        }
+
+        @Test
+        void mapViewIsLazy() {
+            int[] numberOfCalls = new int[1];
+            List<String> mapped = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES).mapView(s -> {
+                numberOfCalls[0]++;
+                return s.toUpperCase();
+            });
+            assertEquals(0, numberOfCalls[0]);
+            assertEquals("TEST5", mapped.get(4));
+            assertEquals(1, numberOfCalls[0]);
+        }
+
+        @Test
+        void mapViewCanBeMergedAgain() {
+            List<String> mapped = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES).mapView(String::toUpperCase);
+            List<String> merged = MergedImmutableList.of(mapped, List.of("TEST7"));
+            assertThat(merged).containsExactly("TEST1", "TEST2", "TEST3", "TEST4", "TEST5", "TEST6", "TEST7");
+        }
+
+        @Test
+        void mapViewIsImmutable() {
+            List<String> mapped = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES).mapView(String::toUpperCase);
+            assertThrows(UnsupportedOperationException.class, () -> mapped.add("TEST7"));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, "TEST7"));
+        }
+    }
+
+    @Nested
+    class FilterView {
+        @Test
+        void filterViewOnlyContainsMatchingElements() {
+            List<String> filtered = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES)
+                    .filterView(s -> s.endsWith("2") || s.endsWith("3") || s.endsWith("6"));
+            assertThat(filtered).containsExactly("test2", "test3", "test6");
+            assertEquals(3, filtered.size());
+            assertEquals("test6", filtered.get(2));
+            assertEquals(1, filtered.indexOf("test3"));
+            assertFalse(filtered.contains("test1"));
+            assertThrows(IndexOutOfBoundsException.class, () -> filtered.get(3));
+        }
+
+        @Test
+        void filterViewWithoutMatchesIsEmpty() {
+            List<String> filtered = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES).filterView(s -> false);
+            assertTrue(filtered.isEmpty());
+            assertFalse(filtered.iterator().hasNext());
+        }
+
+        @Test
+        void filterAndMapViewsCanBeChained() {
+            List<Integer> result = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES)
+                    .filterView(s -> !s.endsWith("1"))
+                    .mapView(s -> Integer.parseInt(s.substring(4)))
+                    .filterView(i -> i % 2 == 0);
+            assertThat(result).containsExactly(2, 4, 6);
+        }
+    }
+
+    @Nested
+    class ViewsOfSequentialLists {
+        //The distinct list and the nested merged list are not RandomAccess
+        private final MergedImmutableList<Integer> merged = MergedImmutableList.of(List.of(1, 2),
+                MergedImmutableList.distinct(List.of(3, 4, 3), List.of(5)), MergedImmutableList.of(List.of(6), List.of(7, 8)), List.of(9));
+
+        @Test
+        void viewsAreOnlyRandomAccessIfTheirListsAre() {
+            for (MergedImmutableList<Integer> view : List.of(merged.mapView(n -> n), merged.filterView(n -> true),
+                    merged.withBloomFilters(), merged.withEquivalence(ElementEquivalence.identity()))) {
+                assertThat(view.lists()).extracting(list -> list instanceof RandomAccess).containsExactly(true, false, false, true);
+            }
+            assertThat(((MergedImmutableList<Integer>) merged.reversed()).lists())
+                    .extracting(list -> list instanceof RandomAccess).containsExactly(true, false, false, true);
+            assertThat(((MergedImmutableList<Integer>) ((MergedImmutableList<Integer>) merged.reversed()).reversed()).lists()).containsExactly(merged.lists());
+            assertFalse(MergedImmutableList.interleaved(List.of(1, 2), MergedImmutableList.of(List.of(3), List.of(4))) instanceof RandomAccess);
+            assertTrue(MergedImmutableList.interleaved(List.of(1, 2), List.of(3, 4)) instanceof RandomAccess);
+        }
+
+        @Test
+        void viewsOfSequentialListsAreIteratedCorrectly() {
+            assertSequentialAccess(merged.mapView(n -> n * 10), List.of(10, 20, 30, 40, 50, 60, 70, 80, 90));
+            assertSequentialAccess(merged.filterView(n -> n % 2 == 1), List.of(1, 3, 5, 7, 9));
+            assertSequentialAccess(merged.reversed(), List.of(9, 8, 7, 6, 5, 4, 3, 2, 1));
+            assertSequentialAccess(merged.withBloomFilters(), List.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+            assertSequentialAccess(merged.withEquivalence(ElementEquivalence.hashThenEquals()), List.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+            List<Integer> interleaved = MergedImmutableList.interleaved(List.of(1, 2, 3), merged.lists()[1], merged.lists()[2]);
+            assertSequentialAccess(interleaved, List.of(1, 3, 6, 2, 4, 7, 3, 5, 8));
+            assertEquals(2, interleaved.indexOf(6));
+            assertEquals(6, interleaved.lastIndexOf(3));
+            assertEquals(List.of(1, 3, 6, 2, 4, 7, 3, 5, 8), interleaved.stream().collect(Collectors.toList()));
+        }
+
+        private void assertSequentialAccess(List<Integer> view, List<Integer> expected) {
+            assertEquals(expected, view);
+            assertEquals(expected.toString(), view.toString());
+            List<Integer> backwards = new ArrayList<>();
+            ListIterator<Integer> iterator = view.listIterator(view.size());
+            while (iterator.hasPrevious()) {
+                backwards.add(0, iterator.previous());
+            }
+            assertEquals(expected, backwards);
+            assertEquals(expected.subList(1, expected.size() - 1), view.subList(1, expected.size() - 1));
+            if (view instanceof MergedImmutableList) {
+                MergedImmutableList<Integer> mergedView = (MergedImmutableList<Integer>) view;
+                for (List<Integer> list : mergedView.lists()) {
+                    if (list.size() < 2) {
+                        continue;
+                    }
+                    ListIterator<Integer> listIterator = list.listIterator(1);
+                    assertEquals(1, listIterator.nextIndex());
+                    assertEquals(list.get(1), listIterator.next());
+                    assertEquals(list.get(1), listIterator.previous());
+                    assertEquals(list.get(0), listIterator.previous());
+                    assertFalse(listIterator.hasPrevious());
+                    assertEquals(-1, listIterator.previousIndex());
+                }
+                Object[] copy = new Object[expected.size() - 2];
+                mergedView.copyInto(copy, 0, 1, expected.size() - 1);
+                assertArrayEquals(expected.subList(1, expected.size() - 1).toArray(), copy);
+                List<Integer> batched = new ArrayList<>();
+                mergedView.forEachBatch(new Integer[2], (batch, filled) -> batched.addAll(Arrays.asList(batch).subList(0, filled)));
+                assertEquals(expected, batched);
+            }
+        }
+    }
+
+    @Nested
+    class SegmentSpliterator {
+        @ParameterizedTest
+        @MethodSource(FILLED_LIST_PROVIDER_FQN)
+        <T>void parallelStreamKeepsEncounterOrder(List<String> filledList) {
+            List<String> strings = filledList.parallelStream()
+                    .map(String::toUpperCase)
+                    .collect(Collectors.toList());
+            assertThat(strings).containsExactly("TEST1", "TEST2", "TEST3", "TEST4", "TEST5", "TEST6");
+        }
+
+        @Test
+        void parallelStreamOverManyListsKeepsEncounterOrder() {
+            List<Integer>[] lists = new List[100];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = Stream.iterate(i * 100, n -> n + 1).limit(i % 3 == 0 ? 0 : 100).collect(Collectors.toUnmodifiableList());
+            }
+            List<Integer> merged = MergedImmutableList.of(lists);
+            List<Integer> expected = new ArrayList<>(merged);
+            assertEquals(expected, merged.parallelStream().collect(Collectors.toList()));
+            assertEquals(expected.size(), merged.parallelStream().filter(n -> n >= 0).count());
+        }
+
+        @ParameterizedTest
+        @MethodSource(FILLED_LIST_PROVIDER_FQN)
+        <T>void spliteratorReportsExactSizeWhileAdvancing(List<String> filledList) {
+            Spliterator<String> spliterator = filledList.spliterator();
+            assertEquals(6, spliterator.getExactSizeIfKnown());
+            spliterator.tryAdvance(s -> {});
+            spliterator.tryAdvance(s -> {});
+            assertEquals(4, spliterator.getExactSizeIfKnown());
+            Spliterator<String> prefix = spliterator.trySplit();
+            List<String> result = new ArrayList<>();
+            if (prefix != null) {
+                assertEquals(4, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+                prefix.forEachRemaining(result::add);
+            }
+            spliterator.forEachRemaining(result::add);
+            assertThat(result).containsExactly("test3", "test4", "test5", "test6");
+        }
+    }
+
+    @Nested
+    class Batches {
+        @Test
+        void batchesHaveMaxBatchElementsExceptTheLastOne() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            List<List<String>> batches = new ArrayList<>();
+            merged.forEachBatch(4, batches::add);
+            assertThat(batches).containsExactly(List.of("test1", "test2", "test3", "test4"), List.of("test5", "test6"));
+        }
+
+        @Test
+        void batchesWithinOneListAreSubListsOfThatList() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            Iterator<List<String>> batches = merged.batchIterator(3);
+            assertSame(SEVERAL_LISTS_DESC_SIZES[0], batches.next());
+            List<String> bridgingBatch = batches.next();
+            assertThat(bridgingBatch).isInstanceOf(MergedImmutableList.class).containsExactly("test4", "test5", "test6");
+            assertFalse(batches.hasNext());
+            assertThrows(NoSuchElementException.class, batches::next);
+        }
+
+        @Test
+        void batchesOfOneElement() {
+            List<String> result = new ArrayList<>();
+            MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES).forEachBatch(1, batch -> {
+                assertEquals(1, batch.size());
+                result.addAll(batch);
+            });
+            assertEquals(REFERENCE_FILLED_LIST, result);
+        }
+
+        @Test
+        void reusedArrayIsFilledWithEveryBatch() {
+            String[] buffer = new String[4];
+            List<String> result = new ArrayList<>();
+            List<Integer> batchSizes = new ArrayList<>();
+            MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES).forEachBatch(buffer, (batch, filled) -> {
+                assertSame(buffer, batch);
+                batchSizes.add(filled);
+                result.addAll(Arrays.asList(batch).subList(0, filled));
+            });
+            assertThat(batchSizes).containsExactly(4, 2);
+            assertEquals(REFERENCE_FILLED_LIST, result);
+        }
+
+        @Test
+        void emptyListHasNoBatches() {
+            MergedImmutableList<String> empty = MergedImmutableList.of((List<String>[]) ONE_EMPTY_LIST);
+            assertFalse(empty.batchIterator(10).hasNext());
+            empty.forEachBatch(new String[10], (batch, filled) -> {throw new AssertionError();});
+        }
+
+        @Test
+        void batchSizeMustBePositive() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            assertThrows(IllegalArgumentException.class, () -> merged.batchIterator(0));
+            assertThrows(IllegalArgumentException.class, () -> merged.forEachBatch(new String[0], (batch, filled) -> {}));
+        }
+    }
+
+    @Nested
+    class AsyncOf {
+        @Test
+        void elementsOfLoadedListsAreAvailableBeforeAllListsAreLoaded() {
+            CompletableFuture<List<String>> first = new CompletableFuture<>();
+            CompletableFuture<List<String>> second = new CompletableFuture<>();
+            MergedImmutableList<String> merged = MergedImmutableList.asyncOf(first, second);
+            CompletableFuture<MergedImmutableList<String>> fullyLoaded = merged.whenFullyLoaded();
+            first.complete(List.of("test1", "test2"));
+            assertEquals("test2", merged.get(1));
+            assertThat(merged.subList(0, 2)).containsExactly("test1", "test2");
+            assertFalse(fullyLoaded.isDone());
+            second.complete(List.of("test3"));
+            assertSame(merged, fullyLoaded.join());
+            assertEquals(List.of("test1", "test2", "test3"), merged);
+        }
+
+        @Test
+        void iteratingDoesNotWaitForListsThatAreNotReached() {
+            CompletableFuture<List<String>> never = new CompletableFuture<>();
+            MergedImmutableList<String> merged = MergedImmutableList.asyncOf(CompletableFuture.completedFuture(List.of("test1", "test2")), never);
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                Iterator<String> iterator = merged.iterator();
+                assertEquals("test1", iterator.next());
+                assertEquals("test2", iterator.next());
+                for (String element : merged) {
+                    assertEquals("test1", element);
+                    break;
+                }
+                assertEquals("test2", merged.listIterator(1).next());
+                assertEquals(Optional.of("test1"), merged.stream().findFirst());
+                assertEquals(List.of("test1", "test2"), merged.stream().limit(2).collect(Collectors.toList()));
+                assertEquals(Optional.of("TEST2"), merged.stream().map(String::toUpperCase).skip(1).findFirst());
+                assertTrue(merged.spliterator().tryAdvance(element -> assertEquals("test1", element)));
+                assertEquals(List.of("test1", "test2"), merged.batchIterator(2).next());
+            });
+            assertFalse(never.isDone());
+            never.complete(List.of("test3"));
+            assertThat(merged.spliterator().hasCharacteristics(Spliterator.SIZED)).isTrue();
+            assertEquals(List.of("test1", "test2", "test3"), merged.stream().map(String::toLowerCase).collect(Collectors.toList()));
+        }
+
+        @Test
+        void listsAreLoadedOnExecutor() throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                MergedImmutableList<String> merged = MergedImmutableList.asyncOf(executor,
+                        () -> List.of("test1", "test2", "test3"), () -> List.of(), () -> List.of("test4", "test5", "test6"));
+                assertEquals(REFERENCE_FILLED_LIST, merged.whenFullyLoaded().join());
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        void listsAreLoadedOnOwnThreadsWithoutExecutor() {
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+            Callable<List<String>> loader = () -> {
+                threadNames.add(Thread.currentThread().getName());
+                return List.of("test");
+            };
+            MergedImmutableList<String> merged = MergedImmutableList.asyncOf(loader, loader);
+            assertEquals(List.of("test", "test"), merged.whenFullyLoaded().join());
+            assertThat(threadNames).allMatch(name -> name.startsWith("merged-immutable-list-loader-"));
+        }
+
+        @Test
+        void failedOrMutableListsFailOnAccess() {
+            MergedImmutableList<String> failed = MergedImmutableList.asyncOf(Runnable::run, () -> {throw new IOException("test");});
+            CompletionException exception = assertThrows(CompletionException.class, failed::size);
+            assertThat(exception).hasCauseInstanceOf(IOException.class);
+            MergedImmutableList<String> mutable = MergedImmutableList.asyncOf(CompletableFuture.completedFuture(new ArrayList<>()));
+            exception = assertThrows(CompletionException.class, () -> mutable.get(0));
+            assertThat(exception).hasCauseInstanceOf(IllegalArgumentException.class);
+            assertTrue(mutable.whenFullyLoaded().isCompletedExceptionally());
+        }
+
+        @Test
+        void listWithoutAsyncListsIsFullyLoaded() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            assertSame(merged, merged.whenFullyLoaded().getNow(null));
+        }
+
+        @Test
+        void loadedMergedListIsAccessedSequentially() {
+            MergedImmutableList<String> loaded = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            MergedImmutableList<String> merged = MergedImmutableList.asyncOf(CompletableFuture.completedFuture(loaded));
+            assertFalse(merged.lists()[0] instanceof RandomAccess);
+            Object[] copy = new Object[4];
+            merged.copyInto(copy, 0, 1, 5);
+            assertArrayEquals(new Object[]{"test2", "test3", "test4", "test5"}, copy);
+            assertEquals("[test1, ... (4 more), test6]", merged.toString(1, 1));
+            assertEquals(REFERENCE_FILLED_LIST, merged);
+        }
+    }
+
+    @Nested
+    class Accumulator {
+        @Test
+        void snapshotContainsAllAppendedLists() {
+            MergedListAccumulator<String> accumulator = new MergedListAccumulator<>();
+            assertThat(accumulator.snapshot()).isEmpty();
+            accumulator.append(List.of("test1", "test2"));
+            accumulator.append(List.of());
+            accumulator.append(List.of("test3"));
+            MergedImmutableList<String> snapshot = accumulator.snapshot();
+            assertThat(snapshot).containsExactly("test1", "test2", "test3");
+            assertSame(snapshot, accumulator.snapshot());
+            for (int i = 4; i < 40; i++) {
+                accumulator.append(List.of("test" + i));
+            }
+            assertThat(snapshot).containsExactly("test1", "test2", "test3");
+            assertEquals(39, accumulator.snapshot().size());
+            assertEquals("test39", accumulator.snapshot().getLast());
+        }
+
+        @Test
+        void mutableListsAreRejected() {
+            MergedListAccumulator<String> accumulator = new MergedListAccumulator<>();
+            assertThrows(IllegalArgumentException.class, () -> accumulator.append(new ArrayList<>()));
+            assertThrows(NullPointerException.class, () -> accumulator.append(null));
+        }
+
+        @Test
+        void appendsOfConcurrentWritersAreAllIncluded() throws Exception {
+            MergedListAccumulator<Integer> accumulator = new MergedListAccumulator<>();
+            int numberOfWriters = 4;
+            int appendsPerWriter = 1000;
+            ExecutorService executor = Executors.newFixedThreadPool(numberOfWriters + 1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < numberOfWriters; writer++) {
+                int firstElement = writer * appendsPerWriter;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < appendsPerWriter; i++) {
+                        accumulator.append(List.of(firstElement + i));
+                        if (i % 100 == 0) {
+                            assertTrue(accumulator.snapshot().contains(firstElement + i));
+                        }
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                int previousSize = 0;
+                for (int i = 0; i < 1000; i++) {
+                    int size = accumulator.snapshot().size();
+                    assertTrue(size >= previousSize);
+                    previousSize = size;
+                }
+            }));
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            executor.shutdown();
+            MergedImmutableList<Integer> snapshot = accumulator.snapshot();
+            assertEquals(numberOfWriters * appendsPerWriter, snapshot.size());
+            for (int writer = 0; writer < numberOfWriters; writer++) {
+                int firstElement = writer * appendsPerWriter;
+                List<Integer> elementsOfWriter = snapshot.stream()
+                        .filter(n -> n >= firstElement && n < firstElement + appendsPerWriter)
+                        .collect(Collectors.toList());
+                assertEquals(Stream.iterate(firstElement, n -> n + 1).limit(appendsPerWriter).collect(Collectors.toList()), elementsOfWriter);
+            }
+        }
+    }
+
+    @Nested
+    class GuavaInterop {
+        @Test
+        void mergesImmutableListsAndAsListViews() {
+            MergedImmutableList<String> merged = GuavaLists.of(ImmutableList.of("test1", "test2"), ImmutableList.of(), ImmutableList.of("test3"));
+            assertThat(merged).containsExactly("test1", "test2", "test3");
+            MergedImmutableList<String> mergedSets = GuavaLists.ofCollections(ImmutableSet.of("test1", "test2"), ImmutableSortedSet.of("test4", "test3"));
+            assertThat(mergedSets).containsExactly("test1", "test2", "test3", "test4");
+        }
+
+        @Test
+        void leavesOutEmptyListsLikeOf() {
+            ImmutableList<String> list = ImmutableList.of("test1");
+            assertArrayEquals(MergedImmutableList.of(ImmutableList.of(), list).lists(), GuavaLists.of(ImmutableList.of(), list).lists());
+            assertEquals(1, GuavaLists.ofCollections(ImmutableSet.of(), ImmutableSet.of("test1")).lists().length);
+            assertSame(MergedImmutableList.of(), GuavaLists.of(ImmutableList.of(), ImmutableList.of()));
+            assertSame(MergedImmutableList.of(), GuavaLists.ofCollections(ImmutableSet.of()));
+        }
+
+        @Test
+        void toImmutableListReturnsOnlyNonEmptyListWithoutCopying() {
+            ImmutableList<String> list = ImmutableList.of("test1", "test2");
+            assertSame(list, GuavaLists.toImmutableList(GuavaLists.of(ImmutableList.of(), list, ImmutableList.of())));
+        }
+
+        @Test
+        void toImmutableListCopiesSeveralLists() {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            ImmutableList<String> immutableList = GuavaLists.toImmutableList(merged);
+            assertEquals(REFERENCE_FILLED_LIST, immutableList);
+            assertEquals(ImmutableList.of(), GuavaLists.toImmutableList(MergedImmutableList.of((List<String>[]) ONE_EMPTY_LIST)));
+        }
+    }
+
+    @Nested
+    class EclipseCollectionsInterop {
+        @Test
+        void mergesImmutableLists() {
+            MergedImmutableList<String> merged = EclipseCollectionsLists.of(Lists.immutable.of("test1", "test2"), Lists.immutable.empty(),
+                    Lists.immutable.of("test3", "test4", "test5", "test6"));
+            assertEquals(REFERENCE_FILLED_LIST, merged);
+            assertThat(MergedImmutableList.of(Lists.immutable.of("test1").castToList(), List.of("test2"))).containsExactly("test1", "test2");
+        }
+
+        @Test
+        void leavesOutEmptyListsLikeOf() {
+            List<String> list = Lists.immutable.of("test1").castToList();
+            assertArrayEquals(MergedImmutableList.of(Lists.immutable.<String>empty().castToList(), list).lists(),
+                    EclipseCollectionsLists.of(Lists.immutable.empty(), Lists.immutable.of("test1")).lists());
+            assertEquals(1, EclipseCollectionsLists.ofInts(IntLists.immutable.empty(), IntLists.immutable.of(1)).lists().length);
+            assertEquals(1, EclipseCollectionsLists.ofLongs(LongLists.immutable.of(1L), LongLists.immutable.empty()).lists().length);
+            assertSame(MergedImmutableList.of(), EclipseCollectionsLists.of(Lists.immutable.empty()));
+            assertSame(MergedImmutableList.of(), EclipseCollectionsLists.ofInts(IntLists.immutable.empty()));
+            assertSame(MergedImmutableList.of(), EclipseCollectionsLists.ofLongs());
+        }
+
+        @Test
+        void mergesPrimitiveListsWithoutCopying() {
+            MergedImmutableList<Integer> ints = EclipseCollectionsLists.ofInts(IntLists.immutable.of(1, 2), IntLists.immutable.empty(), IntLists.immutable.of(3));
+            assertThat(ints).containsExactly(1, 2, 3);
+            assertEquals(2, ints.indexOf(3));
+            assertFalse(ints.contains(3L));
+            MergedImmutableList<Long> longs = EclipseCollectionsLists.ofLongs(LongLists.immutable.of(1L), LongLists.immutable.of(2L, 3L));
+            assertEquals(List.of(1L, 2L, 3L), longs);
+            assertEquals(6L, longs.stream().mapToLong(Long::longValue).sum());
+        }
+    }
+
+    @Nested
+    class Serialization {
+        @ParameterizedTest
+        @MethodSource(FILLED_LIST_PROVIDER_FQN)
+        <T>void roundTripThroughChannelKeepsElements(List<String> filledList) throws IOException {
+            List<String> read = MergedImmutableListSerializer.read(Channels.newChannel(new ByteArrayInputStream(serialize(filledList))),
+                    ElementCodec.strings());
+            assertEquals(filledList, read);
+        }
+
+        @Test
+        void readingFromChannelKeepsSegmentsAndLoadsThemLazily() throws IOException {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES);
+            MergedImmutableList<String> read = MergedImmutableListSerializer.read(
+                    Channels.newChannel(new ByteArrayInputStream(serialize(merged))), ElementCodec.strings());
+            List<String>[] segments = read.lists();
+            assertEquals(3, segments.length);
+            assertEquals(6, read.size());
+            assertFalse(((LazySegment<String>) segments[0]).isLoaded());
+            assertEquals("test4", read.get(3));
+            assertTrue(((LazySegment<String>) segments[1]).isLoaded());
+            assertFalse(((LazySegment<String>) segments[2]).isLoaded());
+            assertEquals(merged, read);
+        }
+
+        @Test
+        void roundTripThroughMappedFileLoadsSegmentsIndependently(@TempDir Path tempDir) throws IOException {
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of("a", "\u00e4\u00f6\u00fc", "\u20ac"), List.of(),
+                    List.of("\ud83d\ude00", "\ud800"));
+            Path file = tempDir.resolve("merged.bin");
+            Files.write(file, serialize(merged));
+            MergedImmutableList<String> read = MergedImmutableListSerializer.read(file, ElementCodec.strings());
+            assertEquals("?", read.get(4));
+            assertFalse(((LazySegment<String>) read.lists()[0]).isLoaded());
+            assertThat(read).containsExactly("a", "\u00e4\u00f6\u00fc", "\u20ac", "\ud83d\ude00", "?");
+        }
+
+        @Test
+        void numericCodecsRoundTrip() throws IOException {
+            MergedImmutableList<Integer> integers = MergedImmutableList.of(List.of(1, -2), List.of(Integer.MAX_VALUE, Integer.MIN_VALUE));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MergedImmutableListSerializer.write(integers, ElementCodec.integers(), Channels.newChannel(out));
+            assertEquals(integers, MergedImmutableListSerializer.read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())),
+                    ElementCodec.integers()));
+            MergedImmutableList<Long> longs = MergedImmutableList.of(List.of(Long.MIN_VALUE), List.of(0L, Long.MAX_VALUE));
+            out.reset();
+            MergedImmutableListSerializer.write(longs, ElementCodec.longs(), Channels.newChannel(out));
+            assertEquals(longs, MergedImmutableListSerializer.read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())),
+                    ElementCodec.longs()));
+        }
+
+        @Test
+        void corruptInputIsRejected() throws IOException {
+            byte[] serialized = serialize(MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES));
+            byte[] wrongMagicNumber = serialized.clone();
+            wrongMagicNumber[0]++;
+            assertThrows(StreamCorruptedException.class, () -> MergedImmutableListSerializer.read(
+                    Channels.newChannel(new ByteArrayInputStream(wrongMagicNumber)), ElementCodec.strings()));
+            byte[] truncated = Arrays.copyOf(serialized, serialized.length - 1);
+            List<String> read = MergedImmutableListSerializer.read(Channels.newChannel(new ByteArrayInputStream(truncated)),
+                    ElementCodec.strings());
+            assertThrows(UncheckedIOException.class, () -> read.get(5));
+        }
+
+        @Test
+        void failedChannelSegmentFailsAllLaterSegmentsWithTheSameException() throws IOException {
+            byte[] serialized = serialize(MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_DESC_SIZES));
+            //Header of 3 lists, then the number of bytes and the elements of the first list
+            int secondListOffset = Integer.BYTES * 6 + ByteBuffer.wrap(serialized).getInt(Integer.BYTES * 5);
+            ByteBuffer.wrap(serialized).putInt(secondListOffset, ByteBuffer.wrap(serialized).getInt(secondListOffset) - 1);
+            List<String> corrupted = MergedImmutableListSerializer.read(Channels.newChannel(new ByteArrayInputStream(serialized)),
+                    ElementCodec.strings());
+            UncheckedIOException failure = assertThrows(UncheckedIOException.class, () -> corrupted.get(3));
+            assertThat(failure.getCause()).isInstanceOf(StreamCorruptedException.class);
+            assertSame(failure.getCause(), assertThrows(UncheckedIOException.class, () -> corrupted.get(3)).getCause());
+            assertSame(failure.getCause(), assertThrows(UncheckedIOException.class, () -> corrupted.get(5)).getCause());
+            assertEquals("test1", corrupted.get(0));
+
+            byte[] truncated = Arrays.copyOf(serialized, Integer.BYTES * 7);
+            List<String> read = MergedImmutableListSerializer.read(Channels.newChannel(new ByteArrayInputStream(truncated)),
+                    ElementCodec.strings());
+            failure = assertThrows(UncheckedIOException.class, () -> read.get(0));
+            assertThat(failure.getCause()).isInstanceOf(EOFException.class);
+            assertSame(failure.getCause(), assertThrows(UncheckedIOException.class, () -> read.get(5)).getCause());
+        }
+
+        private byte[] serialize(List<String> list) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MergedImmutableListSerializer.write(list, ElementCodec.strings(), Channels.newChannel(out));
+            return out.toByteArray();
+        }
+    }
+
+    @Nested
+    class Export {
+        @Test
+        void writeToConcatenatesTheEncodedElements() throws IOException {
+            MergedImmutableList<String> merged = MergedImmutableList.of((List<String>[]) SEVERAL_LISTS_ASC_SIZES);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(expectedBytes(merged).length, merged.writeTo(out, ElementCodec.strings()));
+            assertArrayEquals(expectedBytes(merged), out.toByteArray());
+            out.reset();
+            assertEquals(0, MergedImmutableList.<String>of().writeTo(out, ElementCodec.strings()));
+            assertEquals(0, out.size());
+        }
+
+        @Test
+        void parallelWriteToWritesTheSameBytesInTheSameOrder(@TempDir Path tempDir) throws IOException {
+            List<String>[] lists = new List[300];
+            for (int i = 0; i < lists.length; i++) {
+                int start = i * 1000;
+                lists[i] = Stream.iterate(start, n -> n + 1).limit(i * 37 % 200).map(n -> "element" + n).collect(Collectors.toUnmodifiableList());
+            }
+            MergedImmutableList<String> merged = MergedImmutableList.of(lists);
+            byte[] expected = expectedBytes(merged);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(expected.length, merged.parallelWriteTo(Channels.newChannel(out), ElementCodec.strings()));
+            assertArrayEquals(expected, out.toByteArray());
+            Path file = tempDir.resolve("export.bin");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                assertEquals(expected.length, merged.parallelWriteTo(channel, ElementCodec.strings()));
+            }
+            assertArrayEquals(expected, Files.readAllBytes(file));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                assertEquals(expected.length, merged.writeTo(channel, ElementCodec.strings()));
+            }
+            assertArrayEquals(expected, Files.readAllBytes(file));
+        }
+
+        @Test
+        void elementsLargerThanTheBufferAreWritten() throws IOException {
+            String large = "x".repeat(100_000);
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of("a"), List.of(large, "b"));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            merged.writeTo(Channels.newChannel(out), ElementCodec.strings());
+            assertArrayEquals(expectedBytes(merged), out.toByteArray());
+        }
+
+        @Test
+        void writeToEncodesIntoPassedBuffer() throws IOException {
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of("a", "x".repeat(100)), List.of("b", "c"));
+            ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+            buffer.put((byte) 1);
+            for (int i = 0; i < 2; i++) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                assertEquals(expectedBytes(merged).length, merged.writeTo(Channels.newChannel(out), ElementCodec.strings(), buffer));
+                assertArrayEquals(expectedBytes(merged), out.toByteArray());
+            }
+            assertEquals(16, buffer.capacity());
+        }
+
+        @Test
+        void parallelWriteToSplitsLargeLists() throws IOException {
+            List<String> large = Stream.iterate(0, n -> n + 1).limit(20_000).map(n -> "element" + n).collect(Collectors.toUnmodifiableList());
+            MergedImmutableList<String> merged = MergedImmutableList.of(List.of("first"), large, List.of("last"));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(expectedBytes(merged).length, merged.parallelWriteTo(Channels.newChannel(out), ElementCodec.strings()));
+            assertArrayEquals(expectedBytes(merged), out.toByteArray());
+        }
+
+        private byte[] expectedBytes(List<String> list) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (String element : list) {
+                ByteBuffer buffer = ByteBuffer.allocate(ElementCodec.strings().encodedSize(element));
+                ElementCodec.strings().encode(element, buffer);
+                out.write(buffer.array(), 0, buffer.position());
+            }
+            return out.toByteArray();
+        }
+    }
+
     @Nested
     class Immutability {
         @ParameterizedTest
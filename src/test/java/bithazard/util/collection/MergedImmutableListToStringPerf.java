@@ -0,0 +1,73 @@
+package bithazard.util.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Compares toString of merged lists with the one of ArrayList, appending to a reused StringBuilder and the truncated
+//toString (first and last 10 elements). Run with -prof gc to see the allocated bytes per operation.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+public class MergedImmutableListToStringPerf {
+    @Param({"100x100", "1000x1000"})
+    private String shape;
+    private MergedImmutableList<String> mergedImmutableList;
+    private List<String> arrayList;
+    private final StringBuilder stringBuilder = new StringBuilder();
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        List<String> includes = commandLineOptions.getIncludes();
+        if (includes.isEmpty()) {
+            includes.add(MergedImmutableListToStringPerf.class.getSimpleName());
+        }
+        new Runner(commandLineOptions).run();
+    }
+
+    @Setup
+    public void setup() {
+        List<String>[] listsToMerge = MergedImmutableListShapes.createLists(shape);
+        mergedImmutableList = MergedImmutableList.of(listsToMerge);
+        arrayList = MergedImmutableListShapes.toArrayList(listsToMerge);
+    }
+
+    @Benchmark
+    public String toStringUsingArrayList() {
+        return arrayList.toString();
+    }
+
+    @Benchmark
+    public String toStringUsingMergedImmutableList() {
+        return mergedImmutableList.toString();
+    }
+
+    @Benchmark
+    public int appendToUsingMergedImmutableList() {
+        stringBuilder.setLength(0);
+        return mergedImmutableList.appendTo(stringBuilder).length();
+    }
+
+    @Benchmark
+    public String truncatedToStringUsingMergedImmutableList() {
+        return mergedImmutableList.toString(10, 10);
+    }
+}